@@ -0,0 +1,124 @@
+package com.digigrow.config;
+
+import com.digigrow.entity.User;
+import com.digigrow.repository.UserRepository;
+import com.digigrow.util.TtlCache;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * User lookup for authentication, backed by a bounded TTL cache. Tokens carrying
+ * {@code uid} and {@code roles} claims are trusted without any lookup unless that user has
+ * changed since the token was issued; {@link UserCacheInvalidator} reports those changes.
+ * Cached users are shared between requests and must be treated as read-only.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CachedUserDetailsService implements UserDetailsService {
+
+    private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.auth.user-cache-size:1000}")
+    private int cacheSize;
+
+    @Value("${app.auth.user-cache-ttl-ms:300000}")
+    private long cacheTtlMs;
+
+    @Value("${app.jwt.access-expiration-ms:900000}")
+    private long jwtExpirationMs;
+
+    private TtlCache<String, User> users;
+
+    // User id -> time of last change; only needed for as long as a token issued before it can live
+    private TtlCache<Long, Long> changedAt;
+
+    @PostConstruct
+    void init() {
+        users = new TtlCache<>(cacheSize, cacheTtlMs);
+        changedAt = new TtlCache<>(cacheSize, jwtExpirationMs);
+
+        // Changes made before a restart must still outrank tokens issued before them
+        LocalDateTime since = LocalDateTime.now().minusNanos(jwtExpirationMs * 1_000_000);
+        for (User user : userRepository.findByUpdatedAtAfter(since)) {
+            changedAt.put(user.getId(), user.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        }
+
+        FunctionCounter.builder("cache.gets", users, TtlCache::hits)
+                .tag("cache", "users").tag("result", "hit")
+                .description("User details cache lookups")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.gets", users, TtlCache::misses)
+                .tag("cache", "users").tag("result", "miss")
+                .description("User details cache lookups")
+                .register(meterRegistry);
+        Gauge.builder("cache.size", users, TtlCache::size)
+                .tag("cache", "users")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
+        User user = users.get(email);
+        if (user == null) {
+            user = userRepository.findByEmail(email)
+                    .orElseThrow(() -> new UsernameNotFoundException("User not found: " + email));
+            users.put(email, user);
+        }
+        return user;
+    }
+
+    /**
+     * Resolves the principal for verified token claims, or null if the account can no longer
+     * authenticate. Skips the lookup entirely when the token's role claims are still current.
+     */
+    public UserDetails resolve(Claims claims) {
+        String email = claims.getSubject();
+        Long userId = claims.get("uid", Long.class);
+        List<?> roles = claims.get("roles", List.class);
+
+        if (userId != null && roles != null && isCurrent(userId, claims.getIssuedAt())) {
+            return org.springframework.security.core.userdetails.User.withUsername(email)
+                    .password("")
+                    .authorities(roles.stream().map(r -> new SimpleGrantedAuthority(r.toString())).toList())
+                    .build();
+        }
+
+        try {
+            UserDetails user = loadUserByUsername(email);
+            return user.isEnabled() ? user : null;
+        } catch (UsernameNotFoundException e) {
+            return null;
+        }
+    }
+
+    private boolean isCurrent(Long userId, Date issuedAt) {
+        Long changed = changedAt.get(userId);
+        // iat has second precision, so a token from the same second as the change is not trusted
+        return changed == null || (issuedAt != null && issuedAt.getTime() > changed);
+    }
+
+    /** Called after a user is created, updated or deleted. */
+    public void userChanged(User user) {
+        changedAt.put(user.getId(), System.currentTimeMillis());
+        // Emails can change too, so don't rely on the current one to find the stale entry
+        users.invalidateAll();
+    }
+}
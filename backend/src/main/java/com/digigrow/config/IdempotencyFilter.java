@@ -0,0 +1,268 @@
+package com.digigrow.config;
+
+import com.digigrow.dto.ApiResponse;
+import com.digigrow.service.IdempotencyService;
+import com.digigrow.service.IdempotencyService.StoredResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Honours the {@code Idempotency-Key} header on the public POST endpoints: the first request
+ * for a key runs normally and its response is stored; retries get the stored response back
+ * without reaching the controller again. The key is bound to a hash of the request body, so a
+ * reused key with a different body gets {@code 422} rather than someone else's response.
+ * Only final outcomes are stored; transient failures release the key for a retry.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final long WAIT_SECONDS = 30;
+    private static final int MAX_BODY_BYTES = 64 * 1024;
+
+    // 4xx responses that a retry of the same request may turn into a success
+    private static final Set<Integer> RETRYABLE_CLIENT_ERRORS = Set.of(408, 409, 425, 429);
+
+    private static final Set<String> PATHS = Set.of(
+            "/bookings", "/bookings/intake", "/contact", "/newsletter/subscribe");
+
+    private final IdempotencyService idempotencyService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod())
+                || request.getHeader(HEADER) == null
+                || !PATHS.contains(path(request));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+        String header = request.getHeader(HEADER).trim();
+        if (header.isEmpty() || header.length() > MAX_KEY_LENGTH) {
+            writeError(response, HttpStatus.BAD_REQUEST, "Invalid " + HEADER + " header");
+            return;
+        }
+        String key = path(request) + " " + header;
+
+        byte[] body = request.getInputStream().readNBytes(MAX_BODY_BYTES + 1);
+        if (body.length > MAX_BODY_BYTES) {
+            writeError(response, HttpStatus.PAYLOAD_TOO_LARGE, "Request body is too large");
+            return;
+        }
+        String requestHash = sha256(body);
+
+        Optional<StoredResponse> stored = idempotencyService.find(key);
+        if (stored.isPresent()) {
+            replay(response, stored.get(), requestHash);
+            return;
+        }
+
+        CompletableFuture<StoredResponse> mine = new CompletableFuture<>();
+        CompletableFuture<StoredResponse> running = idempotencyService.joinInFlight(key, mine);
+        if (running != null) {
+            awaitAndReplay(running, response, requestHash);
+            return;
+        }
+
+        try {
+            // Another request may have finished between the lookup and joining.
+            stored = idempotencyService.find(key);
+            if (stored.isPresent()) {
+                mine.complete(stored.get());
+                replay(response, stored.get(), requestHash);
+                return;
+            }
+            if (!idempotencyService.claim(key, requestHash)) {
+                writeError(response, HttpStatus.CONFLICT, "A request with this " + HEADER + " is already in progress");
+                return;
+            }
+            execute(key, requestHash, new CachedBodyRequest(request, body), response, chain, mine);
+        } finally {
+            idempotencyService.leaveInFlight(key, mine);
+            mine.complete(null);
+        }
+    }
+
+    private void execute(String key, String requestHash, HttpServletRequest request, HttpServletResponse response,
+                         FilterChain chain, CompletableFuture<StoredResponse> mine) throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        try {
+            chain.doFilter(request, wrapper);
+        } catch (ServletException | IOException | RuntimeException e) {
+            idempotencyService.release(key);
+            throw e;
+        }
+
+        StoredResponse result = new StoredResponse(requestHash, wrapper.getStatus(), wrapper.getContentType(),
+                wrapper.getContentAsByteArray());
+        if (!isFinal(result.status(), request)) {
+            // Not a final answer for this request; let the client retry with the same key.
+            idempotencyService.release(key);
+        } else {
+            idempotencyService.complete(key, result);
+            mine.complete(result);
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+    /**
+     * Successes and definitive client errors are final. Server errors, retryable 4xx statuses and
+     * anything rendered from an exception (the exception handler maps most of those to 400,
+     * including infrastructure failures) are not.
+     */
+    private static boolean isFinal(int status, HttpServletRequest request) {
+        if (request.getAttribute(DispatcherServlet.EXCEPTION_ATTRIBUTE) != null) return false;
+        if (status >= 200 && status < 300) return true;
+        return status >= 400 && status < 500 && !RETRYABLE_CLIENT_ERRORS.contains(status);
+    }
+
+    private void awaitAndReplay(CompletableFuture<StoredResponse> running, HttpServletResponse response,
+                                String requestHash) throws IOException {
+        try {
+            StoredResponse result = running.get(WAIT_SECONDS, TimeUnit.SECONDS);
+            if (result != null) {
+                replay(response, result, requestHash);
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            log.debug("Coalesced idempotent request did not complete: {}", e.getMessage());
+        }
+        writeError(response, HttpStatus.CONFLICT, "A request with this " + HEADER + " did not complete, please retry");
+    }
+
+    private void replay(HttpServletResponse response, StoredResponse stored, String requestHash) throws IOException {
+        if (stored.requestHash() != null && !stored.requestHash().equals(requestHash)) {
+            writeError(response, HttpStatus.UNPROCESSABLE_ENTITY,
+                    HEADER + " was already used for a different request body");
+            return;
+        }
+        response.setStatus(stored.status());
+        if (stored.contentType() != null) response.setContentType(stored.contentType());
+        response.setHeader("Idempotent-Replayed", "true");
+        byte[] body = stored.body() != null ? stored.body() : new byte[0];
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.error(message));
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private static String sha256(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** Serves a body that was already read for hashing. */
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    // The whole body is already in memory, so it is available and complete at once
+                    try {
+                        listener.onDataAvailable();
+                        listener.onAllDataRead();
+                    } catch (IOException e) {
+                        listener.onError(e);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
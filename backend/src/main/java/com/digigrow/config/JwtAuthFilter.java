@@ -1,5 +1,7 @@
 package com.digigrow.config;
 
+import com.digigrow.service.TokenRevocationService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -8,7 +10,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -19,7 +20,8 @@ import java.io.IOException;
 public class JwtAuthFilter extends OncePerRequestFilter {
 
     private final JwtUtils jwtUtils;
-    private final UserDetailsService userDetailsService;
+    private final CachedUserDetailsService userDetailsService;
+    private final TokenRevocationService revocationService;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -32,17 +34,19 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             return;
         }
 
+        // One signature check per token; repeat requests with the same token hit the claims cache
         final String jwt = authHeader.substring(7);
-        if (!jwtUtils.isValidToken(jwt)) {
+        final Claims claims = jwtUtils.verify(jwt);
+        if (claims == null || revocationService.isRevoked(claims)) {
             chain.doFilter(request, response);
             return;
         }
 
-        final String email = jwtUtils.extractUsername(jwt);
+        final String email = claims.getSubject();
 
         if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            var userDetails = userDetailsService.loadUserByUsername(email);
-            if (jwtUtils.validateToken(jwt, userDetails)) {
+            var userDetails = userDetailsService.resolve(claims);
+            if (userDetails != null) {
                 var authToken = new UsernamePasswordAuthenticationToken(
                         userDetails, null, userDetails.getAuthorities());
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
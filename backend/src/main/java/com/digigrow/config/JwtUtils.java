@@ -1,16 +1,22 @@
 package com.digigrow.config;
 
+import com.digigrow.entity.User;
+import com.digigrow.util.TtlCache;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 @Component
@@ -20,15 +26,38 @@ public class JwtUtils {
     @Value("${app.jwt.secret}")
     private String jwtSecret;
 
-    @Value("${app.jwt.expiration-ms}")
+    // Access tokens are short-lived; sessions are extended with refresh tokens (see AuthService)
+    @Value("${app.jwt.access-expiration-ms:900000}")
     private long jwtExpirationMs;
 
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+    @Value("${app.jwt.cache-size:10000}")
+    private int cacheSize;
+
+    // Derived once; both are immutable and thread-safe
+    private Key signingKey;
+    private JwtParser parser;
+
+    // Token -> claims for tokens whose signature was already checked; entries expire with the token
+    private TtlCache<String, Claims> verified;
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        verified = new TtlCache<>(cacheSize, jwtExpirationMs);
+    }
+
+    public long getExpirationMs() {
+        return jwtExpirationMs;
     }
 
     public String generateToken(UserDetails userDetails) {
         Map<String, Object> claims = new HashMap<>();
+        // Lets JwtAuthFilter authorize without a user lookup while the user is unchanged
+        claims.put("roles", userDetails.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList());
+        if (userDetails instanceof User user) {
+            claims.put("uid", user.getId());
+        }
         return createToken(claims, userDetails.getUsername());
     }
 
@@ -36,12 +65,36 @@ public class JwtUtils {
         return Jwts.builder()
                 .setClaims(claims)
                 .setSubject(subject)
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + jwtExpirationMs))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    /**
+     * Verifies signature and expiry once and returns the claims, or null if the token is
+     * invalid or expired. Repeat calls for the same token are served from the cache until the
+     * token expires. The returned claims are shared and must not be modified.
+     */
+    public Claims verify(String token) {
+        Claims claims = verified.get(token);
+        if (claims != null) {
+            return claims;
+        }
+        try {
+            claims = parser.parseClaimsJws(token).getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            log.error("Invalid JWT token: {}", e.getMessage());
+            return null;
+        }
+        Date expiration = claims.getExpiration();
+        if (expiration != null) {
+            verified.put(token, claims, expiration.getTime());
+        }
+        return claims;
+    }
+
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
@@ -51,34 +104,19 @@ public class JwtUtils {
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
+        Claims claims = verify(token);
+        if (claims == null) {
+            throw new JwtException("Invalid JWT token");
+        }
         return claimsResolver.apply(claims);
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-    }
-
     public boolean validateToken(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
-    }
-
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+        Claims claims = verify(token);
+        return claims != null && userDetails.getUsername().equals(claims.getSubject());
     }
 
     public boolean isValidToken(String token) {
-        try {
-            Jwts.parserBuilder().setSigningKey(getSigningKey()).build().parseClaimsJws(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            log.error("Invalid JWT token: {}", e.getMessage());
-            return false;
-        }
+        return verify(token) != null;
     }
 }
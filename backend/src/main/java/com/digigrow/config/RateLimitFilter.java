@@ -0,0 +1,222 @@
+package com.digigrow.config;
+
+import com.digigrow.dto.ApiResponse;
+import com.digigrow.util.TokenBucket;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Throttles the public POST endpoints per client IP and route with token buckets, answering
+ * 429 before the request reaches idempotency handling, controllers or the database.
+ * Buckets live in a concurrent map, so the per-request path takes no lock. The map is capped
+ * at {@code app.rate-limit.max-clients}: an insert that finds it full drops idle clients and,
+ * failing that, roughly the least recently seen one percent, so flooding the map costs real
+ * visitors at most a fresh bucket, never a shared one. IPv6 clients are keyed by their /64,
+ * since a single host usually controls a whole /64. Client IP is the servlet remote address, so behind a proxy
+ * enable {@code server.forward-headers-strategy}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.rate-limit.bookings-per-minute:10}")
+    private int bookingsPerMinute;
+
+    @Value("${app.rate-limit.contact-per-minute:5}")
+    private int contactPerMinute;
+
+    @Value("${app.rate-limit.newsletter-per-minute:5}")
+    private int newsletterPerMinute;
+
+    @Value("${app.rate-limit.login-per-minute:10}")
+    private int loginPerMinute;
+
+    @Value("${app.rate-limit.refresh-per-minute:30}")
+    private int refreshPerMinute;
+
+    @Value("${app.rate-limit.max-clients:100000}")
+    private int maxClients;
+
+    // A bucket idle for longer than its refill time is full again, so dropping it loses nothing
+    @Value("${app.rate-limit.idle-ms:120000}")
+    private long idleMs;
+
+    private record Route(String name, int perMinute, Counter rejected) {
+    }
+
+    private static final class Client {
+        final TokenBucket bucket;
+        volatile long lastSeen;
+
+        Client(TokenBucket bucket, long now) {
+            this.bucket = bucket;
+            this.lastSeen = now;
+        }
+    }
+
+    // Clients whose lastSeen is read to estimate the eviction threshold when the map is full
+    private static final int EVICTION_SAMPLE = 256;
+
+    private final Map<String, Route> routes = new HashMap<>();
+    private final ConcurrentHashMap<String, Client> clients = new ConcurrentHashMap<>(1024);
+    // Only eviction coordinates; concurrent inserts that lose the race overshoot the cap briefly
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private final AtomicLong evicted = new AtomicLong();
+
+    @PostConstruct
+    void init() {
+        // Both booking endpoints draw from the same per-client bucket
+        Route bookings = route("bookings", bookingsPerMinute);
+        register("/bookings", bookings);
+        register("/bookings/intake", bookings);
+        register("/contact", route("contact", contactPerMinute));
+        register("/newsletter/subscribe", route("newsletter", newsletterPerMinute));
+        register("/auth/login", route("login", loginPerMinute));
+        register("/auth/refresh", route("refresh", refreshPerMinute));
+    }
+
+    private Route route(String name, int perMinute) {
+        if (perMinute <= 0) return null;   // 0 disables limiting for the route
+        return new Route(name, perMinute,
+                Counter.builder("http.rate_limited").tag("route", name).register(meterRegistry));
+    }
+
+    private void register(String path, Route route) {
+        if (route != null) routes.put(path, route);
+    }
+
+    private static TokenBucket bucket(int perMinute) {
+        return new TokenBucket(perMinute / 60.0, perMinute);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !HttpMethod.POST.matches(request.getMethod()) || !routes.containsKey(path(request));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+        Route route = routes.get(path(request));
+        long waitNanos = bucketFor(clientKey(request.getRemoteAddr()), route).tryAcquire(1);
+        if (waitNanos == 0) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        route.rejected().increment();
+        long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfter));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                ApiResponse.error("Too many requests, please try again in " + retryAfter + "s"));
+    }
+
+    private TokenBucket bucketFor(String client, Route route) {
+        String key = route.name() + '|' + client;
+        long now = System.currentTimeMillis();
+        Client entry = clients.get(key);
+        if (entry == null) {
+            if (clients.size() >= maxClients) makeRoom(now);
+            entry = clients.computeIfAbsent(key, k -> new Client(bucket(route.perMinute()), now));
+        }
+        entry.lastSeen = now;
+        return entry.bucket;
+    }
+
+    /**
+     * Frees about one percent of the capacity so the next inserts don't each pay for a scan:
+     * idle clients first, then active ones below a lastSeen threshold estimated from a sample.
+     */
+    private void makeRoom(long now) {
+        if (!evicting.compareAndSet(false, true)) return;
+        try {
+            int target = maxClients - Math.max(1, maxClients / 100);
+            long cutoff = now - idleMs;
+            clients.values().removeIf(c -> c.lastSeen < cutoff);
+            int size = clients.size();
+            int excess = size - target;
+            if (excess <= 0) return;
+
+            // Iteration follows key hashes, so the first entries are an unbiased sample
+            long[] sample = clients.values().stream()
+                    .limit(EVICTION_SAMPLE)
+                    .mapToLong(c -> c.lastSeen)
+                    .sorted()
+                    .toArray();
+            if (sample.length == 0) return;
+            long threshold = sample[(int) Math.min(sample.length - 1, (long) sample.length * excess / size)];
+            clients.values().removeIf(c -> c.lastSeen <= threshold);
+            evicted.addAndGet(Math.max(0, size - clients.size()));
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    /** IPv4 addresses as-is, IPv6 addresses reduced to their /64 prefix. */
+    private static String clientKey(String remoteAddr) {
+        if (remoteAddr == null || remoteAddr.indexOf(':') < 0) return remoteAddr;
+        try {
+            // A literal address, so no DNS lookup happens here
+            InetAddress address = InetAddress.getByName(remoteAddr);
+            if (!(address instanceof Inet6Address)) return address.getHostAddress();
+            return HexFormat.of().formatHex(address.getAddress(), 0, 8) + "::/64";
+        } catch (UnknownHostException e) {
+            return remoteAddr;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.rate-limit.sweep-ms:60000}")
+    public void evictIdle() {
+        long cutoff = System.currentTimeMillis() - idleMs;
+        int before = clients.size();
+        clients.values().removeIf(c -> c.lastSeen < cutoff);
+        int removed = Math.max(0, before - clients.size());
+        long evictedSinceSweep = evicted.getAndSet(0);
+        if (evictedSinceSweep > 0) {
+            log.warn("Rate limiter at capacity ({} clients): evicted {} active client(s), swept {} idle",
+                    maxClients, evictedSinceSweep, removed);
+        }
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+}
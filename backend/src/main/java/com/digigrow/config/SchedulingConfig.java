@@ -0,0 +1,39 @@
+package com.digigrow.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+/**
+ * Runs {@code @Scheduled} jobs on a small pool instead of Spring's single default thread, so a
+ * slow SMTP server or a long nightly rebuild can't stall the other jobs. The scheduler is not
+ * exposed as a bean: an Executor bean would replace the auto-configured {@code @Async} executor.
+ */
+@Configuration
+@Slf4j
+public class SchedulingConfig implements SchedulingConfigurer, DisposableBean {
+
+    @Value("${app.scheduling.pool-size:8}")
+    private int poolSize;
+
+    private final ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("scheduled-");
+        scheduler.setDaemon(true);
+        scheduler.setErrorHandler(t -> log.error("Scheduled task failed: {}", t.getMessage(), t));
+        scheduler.initialize();
+        registrar.setTaskScheduler(scheduler);
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdown();
+    }
+}
@@ -1,6 +1,6 @@
 package com.digigrow.config;
 
-import com.digigrow.repository.UserRepository;
+import com.digigrow.service.TokenRevocationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -12,8 +12,6 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
@@ -31,18 +29,11 @@ import java.util.List;
 @RequiredArgsConstructor
 public class SecurityConfig {
 
-    private final UserRepository userRepository;
-
-    @Bean
-    public UserDetailsService userDetailsService() {
-        return email -> userRepository.findByEmail(email)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found: " + email));
-    }
-
     @Bean
     public JwtAuthFilter jwtAuthFilter(JwtUtils jwtUtils,
-                                       UserDetailsService userDetailsService) {
-        return new JwtAuthFilter(jwtUtils, userDetailsService);
+                                       CachedUserDetailsService userDetailsService,
+                                       TokenRevocationService revocationService) {
+        return new JwtAuthFilter(jwtUtils, userDetailsService, revocationService);
     }
 
     @Bean
@@ -58,7 +49,8 @@ public class SecurityConfig {
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http,
-                                               JwtAuthFilter jwtAuthFilter) throws Exception {
+                                               JwtAuthFilter jwtAuthFilter,
+                                               RateLimitFilter rateLimitFilter) throws Exception {
         http
             .csrf(AbstractHttpConfigurer::disable)
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
@@ -66,15 +58,22 @@ public class SecurityConfig {
             .authorizeHttpRequests(auth -> auth
                 // Public endpoints
                 .requestMatchers(HttpMethod.POST, "/auth/login").permitAll()
+                .requestMatchers(HttpMethod.POST, "/auth/refresh").permitAll()
+                .requestMatchers(HttpMethod.POST, "/auth/logout").permitAll()
                 .requestMatchers(HttpMethod.POST, "/bookings").permitAll()
+                .requestMatchers(HttpMethod.POST, "/bookings/intake").permitAll()
+                .requestMatchers(HttpMethod.GET, "/bookings/intake/*").permitAll()
                 .requestMatchers(HttpMethod.POST, "/contact").permitAll()
                 .requestMatchers(HttpMethod.GET, "/services/**").permitAll()
                 .requestMatchers(HttpMethod.GET, "/testimonials/**").permitAll()
                 .requestMatchers(HttpMethod.POST, "/newsletter/subscribe").permitAll()
+                .requestMatchers(HttpMethod.POST, "/newsletter/unsubscribe/confirm").permitAll()
                 .requestMatchers("/actuator/health").permitAll()
                 // Admin endpoints - require authentication
                 .anyRequest().authenticated()
             )
+            // Throttle first so rejected requests cost no token parsing or DB work
+            .addFilterBefore(rateLimitFilter, UsernamePasswordAuthenticationFilter.class)
             .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
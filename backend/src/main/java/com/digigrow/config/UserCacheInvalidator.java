@@ -0,0 +1,35 @@
+package com.digigrow.config;
+
+import com.digigrow.entity.User;
+import com.digigrow.util.AfterCommit;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA listener on {@link User} that evicts cached user details whenever a user row changes.
+ * Runs once immediately and again after commit, so a concurrent request can't re-cache the
+ * pre-commit state in between.
+ */
+@Component
+public class UserCacheInvalidator {
+
+    // Lazy: Hibernate builds listeners while the EntityManagerFactory (and so the repository) is still being created
+    private final ObjectProvider<CachedUserDetailsService> userDetailsService;
+
+    public UserCacheInvalidator(ObjectProvider<CachedUserDetailsService> userDetailsService) {
+        this.userDetailsService = userDetailsService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void onChange(User user) {
+        CachedUserDetailsService service = userDetailsService.getIfAvailable();
+        if (service == null) return;
+        service.userChanged(user);
+        AfterCommit.run(() -> service.userChanged(user));
+    }
+}
@@ -0,0 +1,35 @@
+package com.digigrow.config;
+
+import jakarta.servlet.MultipartConfigElement;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.MultipartConfigFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    // Streaming exports run as async requests; the container default of 30s is too short for them.
+    @Value("${app.web.async-timeout-ms:600000}")
+    private long asyncTimeoutMs;
+
+    // Bulk CSV imports are far larger than the 1MB multipart default; uploads spool to disk.
+    @Value("${app.web.max-upload-size:100MB}")
+    private DataSize maxUploadSize;
+
+    @Bean
+    public MultipartConfigElement multipartConfigElement() {
+        MultipartConfigFactory factory = new MultipartConfigFactory();
+        factory.setMaxFileSize(maxUploadSize);
+        factory.setMaxRequestSize(maxUploadSize);
+        return factory.createMultipartConfig();
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(asyncTimeoutMs);
+    }
+}
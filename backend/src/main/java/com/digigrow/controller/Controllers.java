@@ -3,29 +3,60 @@ package com.digigrow.controller;
 import com.digigrow.config.JwtUtils;
 import com.digigrow.dto.ApiResponse;
 import com.digigrow.dto.BookingRequestDto;
+import com.digigrow.dto.CampaignAnalytics;
+import com.digigrow.dto.CampaignMetricsDelta;
+import com.digigrow.dto.CursorPage;
+import com.digigrow.dto.ImportReport;
+import com.digigrow.dto.KeysetCursor;
+import com.digigrow.dto.NewsletterIssueRequestDto;
 import com.digigrow.entity.*;
 import com.digigrow.enums.BookingStatus;
 import com.digigrow.enums.CampaignStatus;
+import com.digigrow.enums.ExportFormat;
+import com.digigrow.enums.MetricGranularity;
+import com.digigrow.enums.NewsletterIssueStatus;
 import com.digigrow.repository.*;
+import com.digigrow.service.AuthService;
+import com.digigrow.service.BookingIntakeQueue;
 import com.digigrow.service.BookingService;
+import com.digigrow.service.CampaignAnalyticsService;
+import com.digigrow.service.CampaignImportService;
+import com.digigrow.service.CampaignMetricsAccumulator;
+import com.digigrow.service.CampaignMetricsService;
 import com.digigrow.service.EmailService;
+import com.digigrow.service.ExportService;
+import com.digigrow.service.NewsletterSendEngine;
+import com.digigrow.service.NewsletterService;
+import com.digigrow.service.ServiceCatalog;
+import com.digigrow.service.SubscriberImportService;
+import com.digigrow.service.TestimonialFeedCache;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.*;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 
 // ======================================================
 // BOOKING CONTROLLER
@@ -37,6 +68,8 @@ import java.util.*;
 class BookingController {
 
     private final BookingService bookingService;
+    private final ExportService exportService;
+    private final BookingIntakeQueue intakeQueue;
 
     @PostMapping
     public ResponseEntity<ApiResponse<BookingConsultation>> createBooking(
@@ -46,6 +79,25 @@ class BookingController {
                 .body(ApiResponse.success("Booking created successfully! We'll contact you within 24 hours.", booking));
     }
 
+    @PostMapping("/intake")
+    public ResponseEntity<ApiResponse<Map<String, String>>> submitBooking(
+            @Valid @RequestBody BookingRequestDto dto) {
+        return intakeQueue.submit(dto)
+                .map(trackingId -> ResponseEntity.status(HttpStatus.ACCEPTED)
+                        .body(ApiResponse.success("Booking received! We'll contact you within 24 hours.",
+                                Map.of("trackingId", trackingId))))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                        .header(HttpHeaders.RETRY_AFTER, "5")
+                        .body(ApiResponse.error("We're receiving a lot of requests right now, please try again shortly.")));
+    }
+
+    @GetMapping("/intake/{trackingId}")
+    public ResponseEntity<ApiResponse<BookingIntakeQueue.IntakeStatus>> getIntakeStatus(@PathVariable String trackingId) {
+        BookingIntakeQueue.IntakeStatus status = intakeQueue.status(trackingId)
+                .orElseThrow(() -> new RuntimeException("Unknown tracking id: " + trackingId));
+        return ResponseEntity.ok(ApiResponse.success(status));
+    }
+
     @GetMapping
     public ResponseEntity<ApiResponse<Page<BookingConsultation>>> getAllBookings(
             @RequestParam(defaultValue = "0") int page,
@@ -60,6 +112,25 @@ class BookingController {
         return ResponseEntity.ok(ApiResponse.success(bookings));
     }
 
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorPage<BookingConsultation>>> getBookingsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) BookingStatus status) {
+        return ResponseEntity.ok(ApiResponse.success(bookingService.getBookingsPage(status, cursor, size)));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportBookings(
+            @RequestParam(required = false) BookingStatus status,
+            @RequestParam(defaultValue = "CSV") ExportFormat format) {
+        StreamingResponseBody body = out -> exportService.exportBookings(status, format, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"bookings." + format.getExtension() + "\"")
+                .body(body);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<BookingConsultation>> getBooking(@PathVariable Long id) {
         return ResponseEntity.ok(ApiResponse.success(bookingService.getBookingById(id)));
@@ -90,23 +161,28 @@ class BookingController {
 class ServicesController {
 
     private final ServiceRepository serviceRepository;
+    private final ServiceCatalog serviceCatalog;
+
+    // Bodies are pre-serialized in the catalog snapshot and copied straight to the response;
+    // If-None-Match revalidation costs no database access or serialization.
 
     @GetMapping
-    public ResponseEntity<ApiResponse<List<ServiceEntity>>> getAllServices() {
-        List<ServiceEntity> services = serviceRepository.findByIsActiveTrueOrderByDisplayOrderAsc();
-        return ResponseEntity.ok(ApiResponse.success(services));
+    public void getAllServices(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        serviceCatalog.all().writeTo(request, response, "no-cache");
     }
 
     @GetMapping("/{slug}")
-    public ResponseEntity<ApiResponse<ServiceEntity>> getServiceBySlug(@PathVariable String slug) {
-        ServiceEntity service = serviceRepository.findBySlug(slug)
-                .orElseThrow(() -> new RuntimeException("Service not found: " + slug));
-        return ResponseEntity.ok(ApiResponse.success(service));
+    public void getServiceBySlug(@PathVariable String slug,
+                                 HttpServletRequest request, HttpServletResponse response) throws IOException {
+        serviceCatalog.bySlug(slug)
+                .orElseThrow(() -> new RuntimeException("Service not found: " + slug))
+                .writeTo(request, response, "no-cache");
     }
 
     @PostMapping
     public ResponseEntity<ApiResponse<ServiceEntity>> createService(@RequestBody ServiceEntity service) {
         ServiceEntity saved = serviceRepository.save(service);
+        serviceCatalog.rebuild();
         return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success("Service created", saved));
     }
 
@@ -115,6 +191,7 @@ class ServicesController {
             @PathVariable Long id, @RequestBody ServiceEntity service) {
         service.setId(id);
         ServiceEntity updated = serviceRepository.save(service);
+        serviceCatalog.rebuild();
         return ResponseEntity.ok(ApiResponse.success("Service updated", updated));
     }
 }
@@ -132,6 +209,7 @@ class ContactController {
     private final EmailService emailService;
 
     @PostMapping
+    @Transactional
     public ResponseEntity<ApiResponse<ContactMessage>> sendMessage(
             @RequestBody ContactMessage contactMessage) {
         ContactMessage saved = contactRepository.save(contactMessage);
@@ -152,6 +230,19 @@ class ContactController {
         return ResponseEntity.ok(ApiResponse.success(messages));
     }
 
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorPage<ContactMessage>>> getMessagesPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean unreadOnly) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<ContactMessage> rows = unreadOnly
+                ? contactRepository.findUnreadPageBefore(after.getCreatedAt(), after.getId(), CursorPage.limit(size))
+                : contactRepository.findPageBefore(after.getCreatedAt(), after.getId(), CursorPage.limit(size));
+        return ResponseEntity.ok(ApiResponse.success(
+                CursorPage.of(rows, size, ContactMessage::getCreatedAt, ContactMessage::getId)));
+    }
+
     @PatchMapping("/{id}/read")
     public ResponseEntity<ApiResponse<ContactMessage>> markAsRead(@PathVariable Long id) {
         ContactMessage msg = contactRepository.findById(id)
@@ -175,32 +266,36 @@ class ContactController {
 class TestimonialsController {
 
     private final TestimonialRepository testimonialRepository;
+    private final TestimonialFeedCache feedCache;
 
     @GetMapping
-    public ResponseEntity<ApiResponse<List<Testimonial>>> getAll(
-            @RequestParam(defaultValue = "false") boolean featuredOnly) {
-        List<Testimonial> list = featuredOnly
-                ? testimonialRepository.findByIsFeaturedTrueAndIsActiveTrueOrderByDisplayOrderAsc()
-                : testimonialRepository.findByIsActiveTrueOrderByDisplayOrderAsc();
-        return ResponseEntity.ok(ApiResponse.success(list));
+    public void getAll(@RequestParam(defaultValue = "false") boolean featuredOnly,
+                       HttpServletRequest request, HttpServletResponse response) throws IOException {
+        TestimonialFeedCache.Feed feed = feedCache.get(featuredOnly);
+        feed.json().writeTo(request, response, feedCache.getCacheControl(), feed.lastModified());
     }
 
     @PostMapping
     public ResponseEntity<ApiResponse<Testimonial>> create(@RequestBody Testimonial testimonial) {
+        Testimonial saved = testimonialRepository.save(testimonial);
+        feedCache.invalidate();
         return ResponseEntity.status(HttpStatus.CREATED)
-                .body(ApiResponse.success("Testimonial added", testimonialRepository.save(testimonial)));
+                .body(ApiResponse.success("Testimonial added", saved));
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<Testimonial>> update(
             @PathVariable Long id, @RequestBody Testimonial testimonial) {
         testimonial.setId(id);
-        return ResponseEntity.ok(ApiResponse.success("Updated", testimonialRepository.save(testimonial)));
+        Testimonial saved = testimonialRepository.save(testimonial);
+        feedCache.invalidate();
+        return ResponseEntity.ok(ApiResponse.success("Updated", saved));
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<ApiResponse<Void>> delete(@PathVariable Long id) {
         testimonialRepository.deleteById(id);
+        feedCache.invalidate();
         return ResponseEntity.ok(ApiResponse.success("Deleted", null));
     }
 }
@@ -215,6 +310,12 @@ class TestimonialsController {
 class AdCampaignController {
 
     private final AdCampaignRepository campaignRepository;
+    private final CampaignMetricsService metricsService;
+    private final CampaignMetricsAccumulator metricsAccumulator;
+    private final CampaignMetricBucketRepository bucketRepository;
+    private final CampaignAnalyticsService analyticsService;
+    private final ExportService exportService;
+    private final CampaignImportService importService;
 
     @GetMapping
     public ResponseEntity<ApiResponse<Page<AdCampaign>>> getAllCampaigns(
@@ -236,6 +337,38 @@ class AdCampaignController {
         return ResponseEntity.ok(ApiResponse.success(campaigns));
     }
 
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorPage<AdCampaign>>> getCampaignsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) CampaignStatus status,
+            @RequestParam(required = false) String platform) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<AdCampaign> rows;
+
+        if (status != null) {
+            rows = campaignRepository.findPageByStatusBefore(status, after.getCreatedAt(), after.getId(), CursorPage.limit(size));
+        } else if (platform != null) {
+            rows = campaignRepository.findPageByPlatformBefore(platform, after.getCreatedAt(), after.getId(), CursorPage.limit(size));
+        } else {
+            rows = campaignRepository.findPageBefore(after.getCreatedAt(), after.getId(), CursorPage.limit(size));
+        }
+        return ResponseEntity.ok(ApiResponse.success(
+                CursorPage.of(rows, size, AdCampaign::getCreatedAt, AdCampaign::getId)));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportCampaigns(
+            @RequestParam(required = false) CampaignStatus status,
+            @RequestParam(required = false) String platform,
+            @RequestParam(defaultValue = "CSV") ExportFormat format) {
+        StreamingResponseBody body = out -> exportService.exportCampaigns(status, platform, format, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"campaigns." + format.getExtension() + "\"")
+                .body(body);
+    }
+
     @PostMapping
     public ResponseEntity<ApiResponse<AdCampaign>> createCampaign(@RequestBody AdCampaign campaign) {
         AdCampaign saved = campaignRepository.save(campaign);
@@ -243,10 +376,20 @@ class AdCampaignController {
                 .body(ApiResponse.success("Campaign created", saved));
     }
 
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<ImportReport>> importCampaigns(
+            @RequestParam("file") MultipartFile file) throws IOException {
+        try (InputStream in = file.getInputStream()) {
+            ImportReport report = importService.importCsv(in);
+            return ResponseEntity.ok(ApiResponse.success(
+                    "Imported " + report.getImported() + " of " + report.getTotalRows() + " rows", report));
+        }
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<AdCampaign>> getCampaign(@PathVariable Long id) {
-        AdCampaign campaign = campaignRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Campaign not found"));
+        AdCampaign campaign = metricsAccumulator.withPending(() -> campaignRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Campaign not found")));
         return ResponseEntity.ok(ApiResponse.success(campaign));
     }
 
@@ -275,15 +418,41 @@ class AdCampaignController {
         return ResponseEntity.ok(ApiResponse.success("Metrics updated", campaignRepository.save(campaign)));
     }
 
+    @GetMapping("/{id}/metrics")
+    public ResponseEntity<ApiResponse<List<CampaignMetricBucket>>> getMetricsSeries(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "DAY") MetricGranularity granularity) {
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = from != null ? from : end.minusDays(30);
+        List<CampaignMetricBucket> series = bucketRepository
+                .findByCampaignIdAndGranularityAndBucketStartGreaterThanEqualAndBucketStartLessThanOrderByBucketStartAsc(
+                        id, granularity, start, end);
+        return ResponseEntity.ok(ApiResponse.success(series));
+    }
+
+    @PostMapping("/{id}/metrics/increment")
+    public ResponseEntity<ApiResponse<Void>> incrementMetrics(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "0") long impressions,
+            @RequestParam(defaultValue = "0") long clicks,
+            @RequestParam(defaultValue = "0") int conversions,
+            @RequestParam(required = false) BigDecimal spend) {
+        metricsAccumulator.add(id, impressions, clicks, conversions, spend);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponse.success("Metrics buffered", null));
+    }
+
+    @PostMapping("/metrics/batch")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> ingestMetrics(
+            @RequestBody List<CampaignMetricsDelta> deltas) {
+        Map<String, Object> result = metricsService.applyDeltas(deltas);
+        return ResponseEntity.ok(ApiResponse.success("Metrics applied", result));
+    }
+
     @GetMapping("/stats")
     public ResponseEntity<ApiResponse<Map<String, Object>>> getCampaignStats() {
-        Map<String, Object> stats = new HashMap<>();
-        stats.put("total", campaignRepository.count());
-        stats.put("active", campaignRepository.countByStatus(CampaignStatus.ACTIVE));
-        stats.put("draft", campaignRepository.countByStatus(CampaignStatus.DRAFT));
-        stats.put("paused", campaignRepository.countByStatus(CampaignStatus.PAUSED));
-        stats.put("platformBreakdown", campaignRepository.countByPlatform());
-        return ResponseEntity.ok(ApiResponse.success(stats));
+        return ResponseEntity.ok(ApiResponse.success(analyticsService.compute().toMap()));
     }
 }
 
@@ -296,32 +465,73 @@ class AdCampaignController {
 @Slf4j
 class AuthController {
 
-    private final AuthenticationManager authenticationManager;
-    private final UserDetailsService userDetailsService;
+    private final AuthService authService;
     private final JwtUtils jwtUtils;
 
     @PostMapping("/login")
-    public ResponseEntity<ApiResponse<Map<String, Object>>> login(@RequestBody Map<String, String> req) {
+    public CompletableFuture<ResponseEntity<ApiResponse<Map<String, Object>>>> login(
+            @RequestBody Map<String, String> req) {
         String email = req.get("email");
         String password = req.get("password");
 
+        CompletableFuture<AuthService.TokenPair> tokens;
+        try {
+            tokens = authService.login(email, password);
+        } catch (RejectedExecutionException e) {
+            log.warn("Login rejected, password hashing queue is full");
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(ApiResponse.error("Too many login attempts, please try again shortly")));
+        }
+
+        return tokens
+                .thenApply(pair -> ResponseEntity.ok(ApiResponse.success("Login successful", tokenResponse(pair))))
+                .exceptionally(ex -> {
+                    Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                    if (cause instanceof BadCredentialsException) {
+                        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                                .body(ApiResponse.error("Invalid credentials"));
+                    }
+                    throw cause instanceof RuntimeException re ? re : new CompletionException(cause);
+                });
+    }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> refresh(@RequestBody Map<String, String> req) {
         try {
-            authenticationManager.authenticate(
-                    new UsernamePasswordAuthenticationToken(email, password));
+            AuthService.TokenPair pair = authService.refresh(req.get("refreshToken"));
+            return ResponseEntity.ok(ApiResponse.success("Token refreshed", tokenResponse(pair)));
         } catch (BadCredentialsException e) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                    .body(ApiResponse.error("Invalid credentials"));
+                    .body(ApiResponse.error(e.getMessage()));
         }
+    }
 
-        UserDetails userDetails = userDetailsService.loadUserByUsername(email);
-        String token = jwtUtils.generateToken(userDetails);
+    @PostMapping("/logout")
+    public ResponseEntity<ApiResponse<Void>> logout(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+            @RequestBody(required = false) Map<String, String> req) {
+        String refreshToken = req != null ? req.get("refreshToken") : null;
+        String accessToken = authorization != null && authorization.startsWith("Bearer ")
+                ? authorization.substring(7) : null;
+        authService.logout(refreshToken, accessToken);
+        return ResponseEntity.ok(ApiResponse.success("Logged out", null));
+    }
+
+    @PostMapping("/revoke")
+    public ResponseEntity<ApiResponse<Void>> revoke(@RequestBody Map<String, String> req) {
+        authService.revokeAccessToken(req.get("token"));
+        return ResponseEntity.ok(ApiResponse.success("Token revoked", null));
+    }
 
+    private Map<String, Object> tokenResponse(AuthService.TokenPair pair) {
         Map<String, Object> response = new HashMap<>();
-        response.put("token", token);
+        response.put("token", pair.accessToken());
         response.put("tokenType", "Bearer");
-        response.put("email", email);
-
-        return ResponseEntity.ok(ApiResponse.success("Login successful", response));
+        response.put("expiresIn", jwtUtils.getExpirationMs());
+        response.put("refreshToken", pair.refreshToken());
+        response.put("email", pair.user().getEmail());
+        return response;
     }
 }
 
@@ -334,42 +544,108 @@ class AuthController {
 class NewsletterController {
 
     private final NewsletterSubscriberRepository subscriberRepository;
+    private final NewsletterIssueRepository issueRepository;
+    private final NewsletterSendEngine sendEngine;
+    private final NewsletterService newsletterService;
+    private final SubscriberImportService importService;
+    private final ExportService exportService;
 
     @PostMapping("/subscribe")
     public ResponseEntity<ApiResponse<String>> subscribe(@RequestBody Map<String, String> body) {
-        String email = body.get("email");
-        String name = body.get("name");
-
-        if (subscriberRepository.existsByEmail(email)) {
+        String email = NewsletterService.normalize(body.get("email"));
+        if (newsletterService.subscribe(email, body.get("name")) == NewsletterService.SubscribeResult.ALREADY_SUBSCRIBED) {
             return ResponseEntity.ok(ApiResponse.success("Already subscribed!", email));
         }
-
-        NewsletterSubscriber subscriber = NewsletterSubscriber.builder()
-                .email(email)
-                .name(name)
-                .isActive(true)
-                .build();
-
-        subscriberRepository.save(subscriber);
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ApiResponse.success("Subscribed successfully!", email));
     }
 
     @PostMapping("/unsubscribe")
     public ResponseEntity<ApiResponse<String>> unsubscribe(@RequestBody Map<String, String> body) {
-        String email = body.get("email");
-        subscriberRepository.findByEmail(email).ifPresent(sub -> {
-            sub.setActive(false);
-            sub.setUnsubscribedAt(java.time.LocalDateTime.now());
-            subscriberRepository.save(sub);
-        });
+        String email = NewsletterService.normalize(body.get("email"));
+        newsletterService.unsubscribe(email);
         return ResponseEntity.ok(ApiResponse.success("Unsubscribed", email));
     }
 
+    @PostMapping("/unsubscribe/confirm")
+    public ResponseEntity<ApiResponse<Void>> unsubscribeByToken(@RequestBody Map<String, String> body) {
+        newsletterService.unsubscribeByToken(body.get("token"));
+        return ResponseEntity.ok(ApiResponse.success("You have been unsubscribed", null));
+    }
+
+    @PostMapping(value = "/subscribers/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<SubscriberImportService.ImportStatus>> importSubscribers(
+            @RequestParam("file") MultipartFile file) throws IOException {
+        try {
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(ApiResponse.success("Import queued", importService.submit(file)));
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, "60")
+                    .body(ApiResponse.error("Too many imports queued, please try again later"));
+        }
+    }
+
+    @GetMapping("/subscribers/import/{jobId}")
+    public ResponseEntity<ApiResponse<SubscriberImportService.ImportStatus>> getImportStatus(@PathVariable String jobId) {
+        SubscriberImportService.ImportStatus status = importService.status(jobId)
+                .orElseThrow(() -> new RuntimeException("Import job not found"));
+        return ResponseEntity.ok(ApiResponse.success(status));
+    }
+
+    @GetMapping("/subscribers/export")
+    public ResponseEntity<StreamingResponseBody> exportSubscribers(
+            @RequestParam(defaultValue = "CSV") ExportFormat format) {
+        StreamingResponseBody body = out -> exportService.exportSubscribers(format, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"subscribers." + format.getExtension() + "\"")
+                .header("X-Total-Count", String.valueOf(subscriberRepository.countByIsActiveTrue()))
+                .body(body);
+    }
+
     @GetMapping("/count")
     public ResponseEntity<ApiResponse<Long>> getSubscriberCount() {
         return ResponseEntity.ok(ApiResponse.success(subscriberRepository.countByIsActiveTrue()));
     }
+
+    @PostMapping("/issues")
+    public ResponseEntity<ApiResponse<NewsletterIssue>> createIssue(
+            @Valid @RequestBody NewsletterIssueRequestDto dto) {
+        NewsletterIssue issue = issueRepository.save(NewsletterIssue.builder()
+                .subject(dto.getSubject())
+                .body(dto.getBody())
+                .status(NewsletterIssueStatus.DRAFT)
+                .build());
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("Newsletter issue created", issue));
+    }
+
+    @GetMapping("/issues")
+    public ResponseEntity<ApiResponse<Page<NewsletterIssue>>> getIssues(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(ApiResponse.success(
+                issueRepository.findAllByOrderByCreatedAtDesc(PageRequest.of(page, size))));
+    }
+
+    @GetMapping("/issues/{id}")
+    public ResponseEntity<ApiResponse<NewsletterIssue>> getIssue(@PathVariable Long id) {
+        NewsletterIssue issue = issueRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Newsletter issue not found: " + id));
+        return ResponseEntity.ok(ApiResponse.success(issue));
+    }
+
+    @PostMapping("/issues/{id}/send")
+    public ResponseEntity<ApiResponse<NewsletterIssue>> sendIssue(@PathVariable Long id) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("Newsletter sending started", sendEngine.start(id)));
+    }
+
+    @PostMapping("/issues/{id}/pause")
+    public ResponseEntity<ApiResponse<NewsletterIssue>> pauseIssue(@PathVariable Long id) {
+        return ResponseEntity.ok(ApiResponse.success("Newsletter sending paused", sendEngine.pause(id)));
+    }
 }
 
 // ======================================================
@@ -382,7 +658,7 @@ class NewsletterController {
 class DashboardController {
 
     private final BookingService bookingService;
-    private final AdCampaignRepository campaignRepository;
+    private final CampaignAnalyticsService analyticsService;
     private final ContactMessageRepository contactRepository;
     private final NewsletterSubscriberRepository subscriberRepository;
 
@@ -395,8 +671,9 @@ class DashboardController {
         stats.put("bookings", bookingStats);
 
         // Campaign stats
-        stats.put("totalCampaigns", campaignRepository.count());
-        stats.put("activeCampaigns", campaignRepository.countByStatus(CampaignStatus.ACTIVE));
+        CampaignAnalytics campaigns = analyticsService.compute();
+        stats.put("totalCampaigns", campaigns.total());
+        stats.put("activeCampaigns", campaigns.count(CampaignStatus.ACTIVE));
 
         // Contact stats
         stats.put("unreadMessages", contactRepository.countByIsReadFalse());
@@ -405,7 +682,7 @@ class DashboardController {
         stats.put("subscribers", subscriberRepository.countByIsActiveTrue());
 
         // Platform breakdown
-        stats.put("platformBreakdown", campaignRepository.countByPlatform());
+        stats.put("platformBreakdown", campaigns.platformBreakdown());
 
         // Service type breakdown
         stats.put("serviceBreakdown", bookingService.getServiceTypeStats());
@@ -57,23 +57,6 @@ class BookingResponseDto {
 
 // ===================== CAMPAIGN DTOs =====================
 
-@Data
-class CampaignRequestDto {
-    @NotBlank public String clientName;
-    @NotBlank @Email public String clientEmail;
-    public String clientPhone;
-    @NotBlank public String businessName;
-    @NotBlank public String platform;
-    @NotBlank public String campaignType;
-    public String targetLocation;
-    public BigDecimal budgetDaily;
-    public BigDecimal budgetMonthly;
-    public String startDate;
-    public String endDate;
-    public String targetAudience;
-    public String campaignObjective;
-}
-
 @Data
 class CampaignResponseDto {
     public Long id;
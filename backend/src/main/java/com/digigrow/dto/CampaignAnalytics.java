@@ -0,0 +1,171 @@
+package com.digigrow.dto;
+
+import com.digigrow.enums.AdPlatform;
+import com.digigrow.enums.CampaignStatus;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.*;
+
+/**
+ * Campaign counts and metric totals for every status x platform cell, held in flat primitive
+ * arrays indexed by {@code status.ordinal() * COLUMNS + platformColumn}. Platforms that do not
+ * match an {@link AdPlatform} constant are counted in the trailing {@link #OTHER_PLATFORM} column.
+ */
+public final class CampaignAnalytics {
+
+    private static final CampaignStatus[] STATUSES = CampaignStatus.values();
+    private static final AdPlatform[] PLATFORMS = AdPlatform.values();
+    private static final Map<String, Integer> PLATFORM_COLUMNS = new HashMap<>();
+
+    public static final int OTHER_PLATFORM = PLATFORMS.length;
+    private static final int COLUMNS = PLATFORMS.length + 1;
+    private static final int CELLS = STATUSES.length * COLUMNS;
+
+    static {
+        for (AdPlatform p : PLATFORMS) PLATFORM_COLUMNS.put(p.name(), p.ordinal());
+    }
+
+    private final long[] counts = new long[CELLS];
+    private final long[] impressions = new long[CELLS];
+    private final long[] clicks = new long[CELLS];
+    private final long[] conversions = new long[CELLS];
+    private final long[] spendCents = new long[CELLS];
+
+    public static int platformColumn(String platform) {
+        if (platform == null) return OTHER_PLATFORM;
+        return PLATFORM_COLUMNS.getOrDefault(platform.trim().toUpperCase(Locale.ROOT), OTHER_PLATFORM);
+    }
+
+    public void add(CampaignStatus status, String platform, long count,
+                    long impressions, long clicks, long conversions, BigDecimal spend) {
+        int cell = status.ordinal() * COLUMNS + platformColumn(platform);
+        this.counts[cell] += count;
+        this.impressions[cell] += impressions;
+        this.clicks[cell] += clicks;
+        this.conversions[cell] += conversions;
+        if (spend != null) {
+            this.spendCents[cell] += spend.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+        }
+    }
+
+    public long count(CampaignStatus status, int platformColumn) {
+        return counts[status.ordinal() * COLUMNS + platformColumn];
+    }
+
+    public long count(CampaignStatus status) {
+        return sumRow(counts, status.ordinal());
+    }
+
+    public long count(AdPlatform platform) {
+        return sumColumn(counts, platform.ordinal());
+    }
+
+    public long total() {
+        return sum(counts);
+    }
+
+    public long impressions() {
+        return sum(impressions);
+    }
+
+    public long clicks() {
+        return sum(clicks);
+    }
+
+    public long conversions() {
+        return sum(conversions);
+    }
+
+    public BigDecimal spend() {
+        return BigDecimal.valueOf(sum(spendCents), 2);
+    }
+
+    public BigDecimal spend(CampaignStatus status) {
+        return BigDecimal.valueOf(sumRow(spendCents, status.ordinal()), 2);
+    }
+
+    /** Click-through rate over all campaigns, weighted by impressions. */
+    public double ctr() {
+        long totalImpressions = impressions();
+        return totalImpressions == 0 ? 0.0 : clicks() * 100.0 / totalImpressions;
+    }
+
+    /** Cost per click over all campaigns, weighted by clicks. */
+    public BigDecimal cpc() {
+        long totalClicks = clicks();
+        return totalClicks == 0 ? BigDecimal.ZERO
+                : spend().divide(BigDecimal.valueOf(totalClicks), 2, RoundingMode.HALF_UP);
+    }
+
+    /** Non-empty platforms as {@code [platform, count]} pairs, the shape /campaigns/stats always returned. */
+    public List<Object[]> platformBreakdown() {
+        List<Object[]> breakdown = new ArrayList<>();
+        for (int c = 0; c < COLUMNS; c++) {
+            long n = sumColumn(counts, c);
+            if (n > 0) breakdown.add(new Object[]{columnName(c), n});
+        }
+        return breakdown;
+    }
+
+    public Map<String, Object> toMap() {
+        Map<String, Long> byStatus = new LinkedHashMap<>();
+        Map<String, Map<String, Long>> matrix = new LinkedHashMap<>();
+        for (CampaignStatus s : STATUSES) {
+            byStatus.put(s.name(), count(s));
+            Map<String, Long> row = new LinkedHashMap<>();
+            for (int c = 0; c < COLUMNS; c++) {
+                long n = count(s, c);
+                if (n > 0) row.put(columnName(c), n);
+            }
+            if (!row.isEmpty()) matrix.put(s.name(), row);
+        }
+
+        Map<String, Long> byPlatform = new LinkedHashMap<>();
+        for (int c = 0; c < COLUMNS; c++) {
+            long n = sumColumn(counts, c);
+            if (c < OTHER_PLATFORM || n > 0) byPlatform.put(columnName(c), n);
+        }
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("total", total());
+        stats.put("active", count(CampaignStatus.ACTIVE));
+        stats.put("draft", count(CampaignStatus.DRAFT));
+        stats.put("paused", count(CampaignStatus.PAUSED));
+        stats.put("byStatus", byStatus);
+        stats.put("byPlatform", byPlatform);
+        stats.put("statusPlatformMatrix", matrix);
+        stats.put("platformBreakdown", platformBreakdown());
+        stats.put("impressions", impressions());
+        stats.put("clicks", clicks());
+        stats.put("conversions", conversions());
+        stats.put("spend", spend());
+        stats.put("activeSpend", spend(CampaignStatus.ACTIVE));
+        stats.put("ctr", ctr());
+        stats.put("cpc", cpc());
+        return stats;
+    }
+
+    private static String columnName(int column) {
+        return column == OTHER_PLATFORM ? "OTHER" : PLATFORMS[column].name();
+    }
+
+    private static long sum(long[] values) {
+        long total = 0;
+        for (long v : values) total += v;
+        return total;
+    }
+
+    private static long sumRow(long[] values, int row) {
+        long total = 0;
+        int base = row * COLUMNS;
+        for (int c = 0; c < COLUMNS; c++) total += values[base + c];
+        return total;
+    }
+
+    private static long sumColumn(long[] values, int column) {
+        long total = 0;
+        for (int r = 0; r < STATUSES.length; r++) total += values[r * COLUMNS + column];
+        return total;
+    }
+}
@@ -0,0 +1,28 @@
+package com.digigrow.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * One record of a bulk metrics push: increments to add to a campaign's running totals.
+ * Missing deltas are treated as zero.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CampaignMetricsDelta {
+    @NotNull(message = "Campaign id is required")
+    private Long campaignId;
+
+    private long impressions;
+
+    private long clicks;
+
+    private long conversions;
+
+    private BigDecimal spend = BigDecimal.ZERO;
+}
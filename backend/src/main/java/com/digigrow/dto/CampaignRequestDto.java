@@ -0,0 +1,24 @@
+package com.digigrow.dto;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+public class CampaignRequestDto {
+    @NotBlank public String clientName;
+    @NotBlank @Email public String clientEmail;
+    public String clientPhone;
+    @NotBlank public String businessName;
+    @NotBlank public String platform;
+    @NotBlank public String campaignType;
+    public String targetLocation;
+    public BigDecimal budgetDaily;
+    public BigDecimal budgetMonthly;
+    public String startDate;
+    public String endDate;
+    public String targetAudience;
+    public String campaignObjective;
+}
@@ -0,0 +1,45 @@
+package com.digigrow.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated list. Unlike {@link org.springframework.data.domain.Page}
+ * there is no total count, so no {@code COUNT(*)} query is issued per page.
+ */
+@Data
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    public static final int MAX_SIZE = 100;
+
+    private List<T> content;
+    private String nextCursor;
+    private boolean hasNext;
+
+    /** Fetches one row more than requested so we know whether another page exists. */
+    public static Pageable limit(int size) {
+        return PageRequest.ofSize(clamp(size) + 1);
+    }
+
+    public static <T> CursorPage<T> of(List<T> rows, int size,
+                                       Function<T, LocalDateTime> createdAt, Function<T, Long> id) {
+        int pageSize = clamp(size);
+        if (rows.size() <= pageSize) {
+            return new CursorPage<>(rows, null, false);
+        }
+        List<T> content = rows.subList(0, pageSize);
+        T last = content.get(pageSize - 1);
+        return new CursorPage<>(content, new KeysetCursor(createdAt.apply(last), id.apply(last)).encode(), true);
+    }
+
+    private static int clamp(int size) {
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+}
@@ -0,0 +1,42 @@
+package com.digigrow.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a bulk CSV import. Row numbers count data rows, starting at 1 after the header.
+ * At most {@link #MAX_ERRORS} row errors are listed; {@link #failed} always has the full count.
+ */
+@Data
+@NoArgsConstructor
+public class ImportReport {
+
+    public static final int MAX_ERRORS = 1000;
+
+    private long totalRows;
+    private long imported;
+    private long failed;
+    private boolean errorsTruncated;
+    private List<RowError> errors = new ArrayList<>();
+
+    public void reject(long row, List<String> messages) {
+        failed++;
+        if (errors.size() < MAX_ERRORS) {
+            errors.add(new RowError(row, messages));
+        } else {
+            errorsTruncated = true;
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private long row;
+        private List<String> messages;
+    }
+}
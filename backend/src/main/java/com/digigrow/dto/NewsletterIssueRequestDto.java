@@ -0,0 +1,11 @@
+package com.digigrow.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+@Data
+public class NewsletterIssueRequestDto {
+    @NotBlank @Size(max = 255) public String subject;
+    @NotBlank public String body;
+}
@@ -0,0 +1,57 @@
+package com.digigrow.entity;
+
+import com.digigrow.enums.MetricGranularity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "campaign_metric_buckets")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CampaignMetricBucket {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "campaign_id", nullable = false)
+    private Long campaignId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private MetricGranularity granularity;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column
+    private long impressions;
+
+    @Column
+    private long clicks;
+
+    @Column
+    private int conversions;
+
+    @Column
+    @Builder.Default
+    private BigDecimal spend = BigDecimal.ZERO;
+
+    // Derived Metrics
+    @Transient
+    public double getCtr() {
+        if (impressions == 0) return 0.0;
+        return clicks * 100.0 / impressions;
+    }
+
+    @Transient
+    public BigDecimal getCpc() {
+        if (clicks == 0 || spend == null) return BigDecimal.ZERO;
+        return spend.divide(BigDecimal.valueOf(clicks), 2, java.math.RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,59 @@
+package com.digigrow.entity;
+
+import com.digigrow.enums.NewsletterIssueStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "newsletter_issues")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NewsletterIssue {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String subject;
+
+    // HTML with {{name}}, {{email}} and {{{unsubscribeUrl}}} placeholders
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String body;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    @Builder.Default
+    private NewsletterIssueStatus status = NewsletterIssueStatus.DRAFT;
+
+    @Column(name = "sent_count")
+    private long sentCount;
+
+    @Column(name = "failed_count")
+    private long failedCount;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    // Instance running the send; null when no coordinator holds the issue
+    @Column(length = 36)
+    private String owner;
+
+    @Column(name = "heartbeat_at")
+    private LocalDateTime heartbeatAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
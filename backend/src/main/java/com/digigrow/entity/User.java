@@ -1,5 +1,6 @@
 package com.digigrow.entity;
 
+import com.digigrow.config.UserCacheInvalidator;
 import jakarta.persistence.*;
 import lombok.*;
 import org.springframework.security.core.GrantedAuthority;
@@ -12,6 +13,7 @@ import java.util.List;
 
 @Entity
 @Table(name = "users")
+@EntityListeners(UserCacheInvalidator.class)
 @Data
 @Builder
 @NoArgsConstructor
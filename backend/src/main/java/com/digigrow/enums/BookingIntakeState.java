@@ -0,0 +1,7 @@
+package com.digigrow.enums;
+
+public enum BookingIntakeState {
+    QUEUED,
+    CREATED,
+    FAILED
+}
@@ -0,0 +1,8 @@
+package com.digigrow.enums;
+
+public enum EmailOutboxStatus {
+    PENDING,
+    SENDING,
+    SENT,
+    DEAD
+}
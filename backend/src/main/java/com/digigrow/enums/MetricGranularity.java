@@ -0,0 +1,7 @@
+package com.digigrow.enums;
+
+public enum MetricGranularity {
+    HOUR,
+    DAY,
+    MONTH
+}
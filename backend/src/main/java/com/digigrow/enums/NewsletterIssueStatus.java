@@ -0,0 +1,8 @@
+package com.digigrow.enums;
+
+public enum NewsletterIssueStatus {
+    DRAFT,
+    SENDING,
+    PAUSED,
+    SENT
+}
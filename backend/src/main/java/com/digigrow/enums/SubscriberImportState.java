@@ -0,0 +1,8 @@
+package com.digigrow.enums;
+
+public enum SubscriberImportState {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
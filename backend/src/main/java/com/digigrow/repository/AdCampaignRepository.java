@@ -2,13 +2,19 @@ package com.digigrow.repository;
 
 import com.digigrow.entity.AdCampaign;
 import com.digigrow.enums.CampaignStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface AdCampaignRepository extends JpaRepository<AdCampaign, Long> {
@@ -17,12 +23,40 @@ public interface AdCampaignRepository extends JpaRepository<AdCampaign, Long> {
     List<AdCampaign> findByClientEmailOrderByCreatedAtDesc(String email);
     long countByStatus(CampaignStatus status);
 
-    @Query("SELECT SUM(a.spend) FROM AdCampaign a WHERE a.status = 'ACTIVE'")
-    java.math.BigDecimal totalActiveSpend();
+    // Keyset pages ordered by (created_at, id). The row-value comparison lets Postgres seek into
+    // the matching composite index; the expanded "< OR (= AND <)" form can only filter. Rows
+    // without a created_at have no position in that order and are excluded outright.
+    @Query("SELECT a FROM AdCampaign a WHERE a.createdAt IS NOT NULL " +
+           "AND (a.createdAt, a.id) < (:createdAt, :id) ORDER BY a.createdAt DESC, a.id DESC")
+    List<AdCampaign> findPageBefore(@Param("createdAt") LocalDateTime createdAt,
+                                    @Param("id") Long id, Pageable pageable);
 
-    @Query("SELECT a.platform, COUNT(a) FROM AdCampaign a GROUP BY a.platform")
-    List<Object[]> countByPlatform();
+    @Query("SELECT a FROM AdCampaign a WHERE a.status = :status AND a.createdAt IS NOT NULL " +
+           "AND (a.createdAt, a.id) < (:createdAt, :id) ORDER BY a.createdAt DESC, a.id DESC")
+    List<AdCampaign> findPageByStatusBefore(@Param("status") CampaignStatus status,
+                                            @Param("createdAt") LocalDateTime createdAt,
+                                            @Param("id") Long id, Pageable pageable);
 
-    @Query("SELECT SUM(a.impressions), SUM(a.clicks), SUM(a.conversions) FROM AdCampaign a")
-    List<Object[]> aggregateStats();
+    @Query("SELECT a FROM AdCampaign a WHERE a.platform = :platform AND a.createdAt IS NOT NULL " +
+           "AND (a.createdAt, a.id) < (:createdAt, :id) ORDER BY a.createdAt DESC, a.id DESC")
+    List<AdCampaign> findPageByPlatformBefore(@Param("platform") String platform,
+                                              @Param("createdAt") LocalDateTime createdAt,
+                                              @Param("id") Long id, Pageable pageable);
+
+    // Forward-only cursors for exports; callers must consume them inside a transaction
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT a FROM AdCampaign a ORDER BY a.id")
+    Stream<AdCampaign> streamAll();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT a FROM AdCampaign a WHERE a.status = :status ORDER BY a.id")
+    Stream<AdCampaign> streamByStatus(@Param("status") CampaignStatus status);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT a FROM AdCampaign a WHERE a.platform = :platform ORDER BY a.id")
+    Stream<AdCampaign> streamByPlatform(@Param("platform") String platform);
+
+    @Query("SELECT a.status, a.platform, COUNT(a), SUM(a.impressions), SUM(a.clicks), SUM(a.conversions), SUM(a.spend) " +
+           "FROM AdCampaign a GROUP BY a.status, a.platform")
+    List<Object[]> aggregateByStatusAndPlatform();
 }
@@ -2,13 +2,19 @@ package com.digigrow.repository;
 
 import com.digigrow.entity.BookingConsultation;
 import com.digigrow.enums.BookingStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface BookingConsultationRepository extends JpaRepository<BookingConsultation, Long> {
@@ -17,9 +23,33 @@ public interface BookingConsultationRepository extends JpaRepository<BookingCons
     List<BookingConsultation> findByEmailOrderByCreatedAtDesc(String email);
     long countByStatus(BookingStatus status);
 
+    // Keyset pages ordered by (created_at, id). The row-value comparison lets Postgres seek into
+    // the matching composite index; the expanded "< OR (= AND <)" form can only filter. Rows
+    // without a created_at have no position in that order and are excluded outright.
+    @Query("SELECT b FROM BookingConsultation b WHERE b.createdAt IS NOT NULL " +
+           "AND (b.createdAt, b.id) < (:createdAt, :id) ORDER BY b.createdAt DESC, b.id DESC")
+    List<BookingConsultation> findPageBefore(@Param("createdAt") LocalDateTime createdAt,
+                                             @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT b FROM BookingConsultation b WHERE b.status = :status AND b.createdAt IS NOT NULL " +
+           "AND (b.createdAt, b.id) < (:createdAt, :id) ORDER BY b.createdAt DESC, b.id DESC")
+    List<BookingConsultation> findPageByStatusBefore(@Param("status") BookingStatus status,
+                                                     @Param("createdAt") LocalDateTime createdAt,
+                                                     @Param("id") Long id, Pageable pageable);
+
+    // Forward-only cursors for exports; callers must consume them inside a transaction
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT b FROM BookingConsultation b ORDER BY b.id")
+    Stream<BookingConsultation> streamAll();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT b FROM BookingConsultation b WHERE b.status = :status ORDER BY b.id")
+    Stream<BookingConsultation> streamByStatus(@Param("status") BookingStatus status);
+
     @Query("SELECT b.serviceType, COUNT(b) FROM BookingConsultation b GROUP BY b.serviceType ORDER BY COUNT(b) DESC")
     List<Object[]> countByServiceType();
 
-    @Query("SELECT COUNT(b) FROM BookingConsultation b WHERE FUNCTION('DATE', b.createdAt) = CURRENT_DATE")
-    long countTodayBookings();
+    @Query("SELECT b.status, COUNT(b), SUM(CASE WHEN b.createdAt >= :since THEN 1 ELSE 0 END) " +
+           "FROM BookingConsultation b GROUP BY b.status")
+    List<Object[]> countByStatusWithCreatedSince(@Param("since") LocalDateTime since);
 }
@@ -0,0 +1,15 @@
+package com.digigrow.repository;
+
+import com.digigrow.entity.CampaignMetricBucket;
+import com.digigrow.enums.MetricGranularity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface CampaignMetricBucketRepository extends JpaRepository<CampaignMetricBucket, Long> {
+    List<CampaignMetricBucket> findByCampaignIdAndGranularityAndBucketStartGreaterThanEqualAndBucketStartLessThanOrderByBucketStartAsc(
+            Long campaignId, MetricGranularity granularity, LocalDateTime from, LocalDateTime to);
+}
@@ -4,11 +4,29 @@ import com.digigrow.entity.ContactMessage;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Repository
 public interface ContactMessageRepository extends JpaRepository<ContactMessage, Long> {
     Page<ContactMessage> findAllByOrderByCreatedAtDesc(Pageable pageable);
     Page<ContactMessage> findByIsReadFalseOrderByCreatedAtDesc(Pageable pageable);
     long countByIsReadFalse();
+
+    // Keyset pages ordered by (created_at, id). The row-value comparison lets Postgres seek into
+    // the matching composite index; the expanded "< OR (= AND <)" form can only filter. Rows
+    // without a created_at have no position in that order and are excluded outright.
+    @Query("SELECT m FROM ContactMessage m WHERE m.createdAt IS NOT NULL " +
+           "AND (m.createdAt, m.id) < (:createdAt, :id) ORDER BY m.createdAt DESC, m.id DESC")
+    List<ContactMessage> findPageBefore(@Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT m FROM ContactMessage m WHERE m.isRead = false AND m.createdAt IS NOT NULL " +
+           "AND (m.createdAt, m.id) < (:createdAt, :id) ORDER BY m.createdAt DESC, m.id DESC")
+    List<ContactMessage> findUnreadPageBefore(@Param("createdAt") LocalDateTime createdAt,
+                                              @Param("id") Long id, Pageable pageable);
 }
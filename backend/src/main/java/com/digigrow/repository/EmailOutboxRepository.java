@@ -0,0 +1,29 @@
+package com.digigrow.repository;
+
+import com.digigrow.entity.EmailOutboxMessage;
+import com.digigrow.enums.EmailOutboxStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutboxMessage, Long> {
+
+    // SKIP LOCKED lets several nodes drain the outbox without handing out the same row twice
+    @Query(value = "SELECT * FROM email_outbox WHERE status = 'PENDING' AND next_attempt_at <= :now " +
+                   "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<EmailOutboxMessage> lockDue(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE EmailOutboxMessage m SET m.status = com.digigrow.enums.EmailOutboxStatus.PENDING " +
+           "WHERE m.status = com.digigrow.enums.EmailOutboxStatus.SENDING AND m.claimedAt < :before")
+    int releaseStale(@Param("before") LocalDateTime before);
+
+    long countByStatus(EmailOutboxStatus status);
+}
@@ -0,0 +1,48 @@
+package com.digigrow.repository;
+
+import com.digigrow.entity.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    // Inserts an in-progress marker, or takes over an expired or abandoned one. Returns 0 when
+    // another request (possibly on another node) holds the key.
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO idempotency_keys (idempotency_key, request_hash, created_at, expires_at) " +
+                   "VALUES (:key, :requestHash, :now, :expiresAt) " +
+                   "ON CONFLICT (idempotency_key) DO UPDATE " +
+                   "SET request_hash = EXCLUDED.request_hash, " +
+                   "    created_at = EXCLUDED.created_at, expires_at = EXCLUDED.expires_at, " +
+                   "    status_code = NULL, content_type = NULL, body = NULL " +
+                   "WHERE idempotency_keys.expires_at < :now " +
+                   "   OR (idempotency_keys.status_code IS NULL AND idempotency_keys.created_at < :staleBefore)",
+           nativeQuery = true)
+    int claim(@Param("key") String key, @Param("requestHash") String requestHash, @Param("now") LocalDateTime now,
+              @Param("expiresAt") LocalDateTime expiresAt, @Param("staleBefore") LocalDateTime staleBefore);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE IdempotencyRecord r SET r.statusCode = :status, r.contentType = :contentType, r.body = :body " +
+           "WHERE r.idempotencyKey = :key")
+    int complete(@Param("key") String key, @Param("status") int status,
+                 @Param("contentType") String contentType, @Param("body") byte[] body);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.idempotencyKey = :key AND r.statusCode IS NULL")
+    int release(@Param("key") String key);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,68 @@
+package com.digigrow.repository;
+
+import com.digigrow.entity.NewsletterIssue;
+import com.digigrow.enums.NewsletterIssueStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface NewsletterIssueRepository extends JpaRepository<NewsletterIssue, Long> {
+
+    Page<NewsletterIssue> findAllByOrderByCreatedAtDesc(Pageable pageable);
+
+    // SENDING issues nobody is running: never claimed, released, or left by a dead instance
+    @Query("SELECT i.id FROM NewsletterIssue i WHERE i.status = com.digigrow.enums.NewsletterIssueStatus.SENDING " +
+           "AND (i.owner IS NULL OR i.heartbeatAt < :staleBefore)")
+    List<Long> findUnowned(@Param("staleBefore") LocalDateTime staleBefore);
+
+    // Conditional update so two concurrent "send" calls can't both start the same issue
+    @Modifying
+    @Transactional
+    @Query("UPDATE NewsletterIssue i SET i.status = :to, i.startedAt = COALESCE(i.startedAt, :now) " +
+           "WHERE i.id = :id AND i.status IN :from")
+    int transition(@Param("id") Long id, @Param("from") Collection<NewsletterIssueStatus> from,
+                   @Param("to") NewsletterIssueStatus to, @Param("now") LocalDateTime now);
+
+    // Takes or renews the send lease; fails once the issue left SENDING or another live instance holds it
+    @Modifying
+    @Transactional
+    @Query("UPDATE NewsletterIssue i SET i.owner = :owner, i.heartbeatAt = :now " +
+           "WHERE i.id = :id AND i.status = com.digigrow.enums.NewsletterIssueStatus.SENDING " +
+           "AND (i.owner IS NULL OR i.owner = :owner OR i.heartbeatAt < :staleBefore)")
+    int claim(@Param("id") Long id, @Param("owner") String owner,
+              @Param("now") LocalDateTime now, @Param("staleBefore") LocalDateTime staleBefore);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE NewsletterIssue i SET i.owner = NULL WHERE i.id = :id AND i.owner = :owner")
+    int release(@Param("id") Long id, @Param("owner") String owner);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE NewsletterIssue i SET i.status = com.digigrow.enums.NewsletterIssueStatus.SENT, " +
+           "i.completedAt = :now, i.owner = NULL " +
+           "WHERE i.id = :id AND i.status = com.digigrow.enums.NewsletterIssueStatus.SENDING AND i.owner = :owner")
+    int complete(@Param("id") Long id, @Param("owner") String owner, @Param("now") LocalDateTime now);
+
+    // Every run retries all recipients not yet SENT, so earlier failures are counted afresh
+    @Modifying
+    @Transactional
+    @Query("UPDATE NewsletterIssue i SET i.failedCount = 0 WHERE i.id = :id")
+    void resetFailedCount(@Param("id") Long id);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE NewsletterIssue i SET i.sentCount = i.sentCount + :sent, i.failedCount = i.failedCount + :failed " +
+           "WHERE i.id = :id")
+    void addCounts(@Param("id") Long id, @Param("sent") long sent, @Param("failed") long failed);
+}
@@ -1,14 +1,24 @@
 package com.digigrow.repository;
 
 import com.digigrow.entity.NewsletterSubscriber;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface NewsletterSubscriberRepository extends JpaRepository<NewsletterSubscriber, Long> {
     Optional<NewsletterSubscriber> findByEmail(String email);
     boolean existsByEmail(String email);
     long countByIsActiveTrue();
+
+    // Forward-only cursor for exports; callers must consume it inside a transaction
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT s FROM NewsletterSubscriber s WHERE s.isActive = true ORDER BY s.id")
+    Stream<NewsletterSubscriber> streamActive();
 }
@@ -0,0 +1,114 @@
+package com.digigrow.service;
+
+import com.digigrow.entity.BookingConsultation;
+import com.digigrow.repository.BookingConsultationRepository;
+import com.digigrow.util.AfterCommit;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Coalesces admin booking notifications into one digest email per window. Pending bookings
+ * are recorded in {@code admin_digest_entries} inside the booking transaction, so they
+ * survive a crash or redeploy; a flush moves them into the email outbox in one transaction.
+ * Flushes run every {@code app.admin.digest.window-ms}, or as soon as this node has seen
+ * {@code app.admin.digest.max-bookings} since the last one. Leads whose monthly budget is
+ * listed in {@code app.admin.digest.immediate-budgets} skip the digest and are emailed at once.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AdminNotificationDigester {
+
+    private static final String RECORD_SQL =
+            "INSERT INTO admin_digest_entries (booking_id) VALUES (?) ON CONFLICT DO NOTHING";
+
+    // SKIP LOCKED lets several instances flush concurrently without sending a booking twice
+    private static final String CLAIM_SQL = """
+            DELETE FROM admin_digest_entries
+            WHERE booking_id IN (SELECT booking_id FROM admin_digest_entries
+                                 ORDER BY booking_id
+                                 LIMIT ?
+                                 FOR UPDATE SKIP LOCKED)
+            RETURNING booking_id
+            """;
+
+    private final EmailService emailService;
+    private final BookingConsultationRepository bookingRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${app.admin.digest.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.admin.digest.max-bookings:25}")
+    private int maxBookings;
+
+    @Value("${app.admin.digest.immediate-budgets:2L-5L,above-5L}")
+    private Set<String> immediateBudgets;
+
+    private final AtomicInteger sinceFlush = new AtomicInteger();
+
+    /** Called inside the booking transaction. */
+    public void bookingCreated(BookingConsultation booking) {
+        if (!enabled || immediateBudgets.contains(booking.getMonthlyBudget())) {
+            emailService.sendAdminNotification(booking);
+            return;
+        }
+        jdbcTemplate.update(RECORD_SQL, booking.getId());
+        AfterCommit.run(() -> {
+            if (sinceFlush.incrementAndGet() >= maxBookings) flush();
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${app.admin.digest.window-ms:60000}")
+    public void flush() {
+        sinceFlush.set(0);
+        try {
+            int sent;
+            do {
+                sent = flushBatch();
+            } while (sent == maxBookings);
+        } catch (RuntimeException e) {
+            // Entries stay in the table and go out with the next flush
+            log.error("Failed to queue admin digest: {}", e.getMessage());
+        }
+    }
+
+    private int flushBatch() {
+        // REQUIRES_NEW: the size trigger runs in the booking's afterCommit callback, where the
+        // committed transaction is still bound to the thread and joining it would discard our writes
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        Integer count = template.execute(tx -> {
+            List<Long> ids = jdbcTemplate.queryForList(CLAIM_SQL, Long.class, maxBookings);
+            if (ids.isEmpty()) return 0;
+            List<BookingConsultation> bookings = bookingRepository.findAllById(ids).stream()
+                    .sorted(Comparator.comparing(BookingConsultation::getId))
+                    .toList();
+            if (!bookings.isEmpty()) {
+                emailService.sendAdminDigest(bookings);
+                log.info("Admin digest queued for {} booking(s)", bookings.size());
+            }
+            return ids.size();
+        });
+        return count != null ? count : 0;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,177 @@
+package com.digigrow.service;
+
+import com.digigrow.config.JwtUtils;
+import com.digigrow.entity.RefreshToken;
+import com.digigrow.entity.User;
+import com.digigrow.repository.RefreshTokenRepository;
+import com.digigrow.repository.UserRepository;
+import io.jsonwebtoken.Claims;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Password login and refresh-token rotation. BCrypt checks run on a small bounded executor so
+ * a burst of login attempts queues there (and is rejected once the queue is full) instead of
+ * tying up servlet threads needed by the public site.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AuthService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final AuthenticationManager authenticationManager;
+    private final JwtUtils jwtUtils;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final TokenRevocationService revocationService;
+
+    @Value("${app.auth.hash-threads:2}")
+    private int hashThreads;
+
+    @Value("${app.auth.hash-queue:20}")
+    private int hashQueue;
+
+    @Value("${app.jwt.refresh-expiration-ms:1209600000}")
+    private long refreshExpirationMs;
+
+    private ThreadPoolExecutor hashExecutor;
+
+    public record TokenPair(String accessToken, String refreshToken, User user) {
+    }
+
+    @PostConstruct
+    void init() {
+        AtomicInteger threadId = new AtomicInteger();
+        hashExecutor = new ThreadPoolExecutor(hashThreads, hashThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(hashQueue),
+                r -> {
+                    Thread t = new Thread(r, "auth-hash-" + threadId.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+    }
+
+    /**
+     * Checks the password on the hashing executor and issues a token pair.
+     *
+     * @throws RejectedExecutionException when the hashing queue is full
+     */
+    public CompletableFuture<TokenPair> login(String email, String password) {
+        return CompletableFuture.supplyAsync(() -> {
+            Authentication auth = authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(email, password));
+            // The authenticated principal is the loaded user; no second lookup needed
+            User user = (User) auth.getPrincipal();
+            return issue(user);
+        }, hashExecutor);
+    }
+
+    /**
+     * Exchanges a refresh token for a new pair. Each refresh token works once; presenting one
+     * that was already rotated revokes every session of that user, since it means it leaked.
+     */
+    @Transactional(noRollbackFor = BadCredentialsException.class)
+    public TokenPair refresh(String refreshToken) {
+        String tokenHash = hash(refreshToken);
+        LocalDateTime now = LocalDateTime.now();
+
+        // Revoke first, conditionally: a concurrent refresh with the same token finds it revoked
+        boolean claimed = refreshTokenRepository.claim(tokenHash, now) == 1;
+        RefreshToken stored = refreshTokenRepository.findByTokenHash(tokenHash)
+                .orElseThrow(() -> new BadCredentialsException("Invalid refresh token"));
+
+        if (!claimed) {
+            if (stored.getRevokedAt() != null) {
+                log.warn("Reuse of revoked refresh token for user #{}; revoking all sessions", stored.getUserId());
+                refreshTokenRepository.revokeAllForUser(stored.getUserId(), now);
+                throw new BadCredentialsException("Invalid refresh token");
+            }
+            throw new BadCredentialsException("Refresh token expired");
+        }
+        User user = userRepository.findById(stored.getUserId())
+                .filter(User::isEnabled)
+                .orElseThrow(() -> new BadCredentialsException("Account disabled"));
+        return issue(user);
+    }
+
+    /** Ends a session: revokes the refresh token and, when given, the current access token. */
+    @Transactional
+    public void logout(String refreshToken, String accessToken) {
+        if (refreshToken != null) {
+            refreshTokenRepository.claim(hash(refreshToken), LocalDateTime.now());
+        }
+        if (accessToken != null) {
+            Claims claims = jwtUtils.verify(accessToken);
+            if (claims != null) revocationService.revoke(claims);
+        }
+    }
+
+    /** Revokes any valid access token, e.g. one that leaked. */
+    public void revokeAccessToken(String accessToken) {
+        Claims claims = accessToken != null ? jwtUtils.verify(accessToken) : null;
+        if (claims == null) {
+            throw new IllegalArgumentException("Invalid or expired token");
+        }
+        if (!revocationService.revoke(claims)) {
+            throw new IllegalArgumentException("Token has no id and cannot be revoked");
+        }
+    }
+
+    private TokenPair issue(User user) {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        String refreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .userId(user.getId())
+                .tokenHash(hash(refreshToken))
+                .expiresAt(LocalDateTime.now().plusNanos(refreshExpirationMs * 1_000_000))
+                .build());
+        return new TokenPair(jwtUtils.generateToken(user), refreshToken, user);
+    }
+
+    // Refresh tokens are 256 random bits, so a fast unsalted hash is enough to protect them at rest
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Scheduled(cron = "${app.auth.refresh-cleanup-cron:0 30 3 * * *}")
+    public void purgeExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("Purged {} expired refresh token(s)", deleted);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        hashExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,155 @@
+package com.digigrow.service;
+
+import com.digigrow.dto.BookingRequestDto;
+import com.digigrow.entity.BookingConsultation;
+import com.digigrow.enums.BookingIntakeState;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded in-process queue for booking submissions. The request thread only validates and
+ * enqueues; a single consumer thread persists queued bookings in batches and triggers the
+ * notification emails. Callers poll {@link #status(String)} with the returned tracking id.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BookingIntakeQueue {
+
+    private final BookingService bookingService;
+
+    @Value("${app.bookings.intake.capacity:1000}")
+    private int capacity;
+
+    @Value("${app.bookings.intake.batch-size:50}")
+    private int batchSize;
+
+    @Value("${app.bookings.intake.status-ttl-ms:3600000}")
+    private long statusTtlMs;
+
+    private final ConcurrentHashMap<String, IntakeStatus> statuses = new ConcurrentHashMap<>();
+    private BlockingQueue<Ticket> queue;
+    private Thread consumer;
+    private volatile boolean running;
+
+    @PostConstruct
+    void start() {
+        queue = new ArrayBlockingQueue<>(capacity);
+        running = true;
+        consumer = new Thread(this::consume, "booking-intake");
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    /**
+     * Enqueues a validated booking. Returns the tracking id, or empty when the queue is full.
+     */
+    public Optional<String> submit(BookingRequestDto dto) {
+        String trackingId = UUID.randomUUID().toString();
+        statuses.put(trackingId, new IntakeStatus(trackingId, BookingIntakeState.QUEUED, null, null,
+                System.currentTimeMillis()));
+        if (!queue.offer(new Ticket(trackingId, dto))) {
+            statuses.remove(trackingId);
+            return Optional.empty();
+        }
+        return Optional.of(trackingId);
+    }
+
+    public Optional<IntakeStatus> status(String trackingId) {
+        return Optional.ofNullable(statuses.get(trackingId));
+    }
+
+    public int depth() {
+        return queue.size();
+    }
+
+    private void consume() {
+        List<Ticket> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Ticket first = queue.poll(500, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                persist(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException e) {
+                log.error("Booking intake consumer error: {}", e.getMessage(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void persist(List<Ticket> batch) {
+        try {
+            List<BookingConsultation> saved = bookingService.createBookings(
+                    batch.stream().map(Ticket::dto).toList());
+            for (int i = 0; i < batch.size(); i++) {
+                complete(batch.get(i).trackingId(), BookingIntakeState.CREATED, saved.get(i).getId(), null);
+            }
+        } catch (RuntimeException e) {
+            // One bad row should not sink the whole batch: fall back to one insert per booking.
+            log.warn("Batch insert of {} queued booking(s) failed, retrying individually: {}",
+                    batch.size(), e.getMessage());
+            for (Ticket ticket : batch) {
+                try {
+                    BookingConsultation saved = bookingService.createBooking(ticket.dto());
+                    complete(ticket.trackingId(), BookingIntakeState.CREATED, saved.getId(), null);
+                } catch (RuntimeException ex) {
+                    log.error("Queued booking {} failed: {}", ticket.trackingId(), ex.getMessage());
+                    complete(ticket.trackingId(), BookingIntakeState.FAILED, null, "Booking could not be saved");
+                }
+            }
+        }
+    }
+
+    private void complete(String trackingId, BookingIntakeState state, Long bookingId, String error) {
+        statuses.put(trackingId, new IntakeStatus(trackingId, state, bookingId, error, System.currentTimeMillis()));
+    }
+
+    @Scheduled(fixedDelayString = "${app.bookings.intake.purge-ms:60000}")
+    public void purgeStatuses() {
+        long cutoff = System.currentTimeMillis() - statusTtlMs;
+        statuses.values().removeIf(s -> s.getState() != BookingIntakeState.QUEUED && s.getUpdatedAt() < cutoff);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        consumer.join(TimeUnit.SECONDS.toMillis(30));
+        if (!queue.isEmpty()) {
+            log.warn("{} queued booking(s) were not persisted before shutdown", queue.size());
+        }
+    }
+
+    private record Ticket(String trackingId, BookingRequestDto dto) {
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class IntakeStatus {
+        private String trackingId;
+        private BookingIntakeState state;
+        private Long bookingId;
+        private String error;
+        @JsonIgnore
+        private long updatedAt;
+    }
+}
@@ -1,6 +1,7 @@
 package com.digigrow.service;
 
 import com.digigrow.dto.BookingRequestDto;
+import com.digigrow.dto.CursorPage;
 import com.digigrow.entity.BookingConsultation;
 import com.digigrow.enums.BookingStatus;
 import org.springframework.data.domain.Page;
@@ -11,8 +12,10 @@ import java.util.Map;
 
 public interface BookingService {
     BookingConsultation createBooking(BookingRequestDto dto);
+    List<BookingConsultation> createBookings(List<BookingRequestDto> dtos);
     Page<BookingConsultation> getAllBookings(Pageable pageable);
     Page<BookingConsultation> getBookingsByStatus(BookingStatus status, Pageable pageable);
+    CursorPage<BookingConsultation> getBookingsPage(BookingStatus status, String cursor, int size);
     BookingConsultation getBookingById(Long id);
     BookingConsultation updateBookingStatus(Long id, BookingStatus status, String notes);
     Map<String, Long> getBookingStats();
@@ -0,0 +1,98 @@
+package com.digigrow.service;
+
+import com.digigrow.enums.BookingStatus;
+import com.digigrow.repository.BookingConsultationRepository;
+import com.digigrow.util.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * In-memory booking counters per {@link BookingStatus} plus a counter for today's bookings.
+ * Updated after each committed create or status change and periodically reconciled with the
+ * database, which also corrects any drift from writes made outside this service.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BookingStatsTracker {
+
+    private static final BookingStatus[] STATUSES = BookingStatus.values();
+
+    private final BookingConsultationRepository bookingRepository;
+
+    private final AtomicLongArray byStatus = new AtomicLongArray(STATUSES.length);
+    private volatile DayCount today = new DayCount(LocalDate.now(), 0);
+
+    public void recordCreated(BookingStatus status) {
+        AfterCommit.run(() -> {
+            byStatus.incrementAndGet(status.ordinal());
+            currentDay().count.incrementAndGet();
+        });
+    }
+
+    public void recordTransition(BookingStatus from, BookingStatus to) {
+        if (from == to) return;
+        AfterCommit.run(() -> {
+            if (from != null) byStatus.decrementAndGet(from.ordinal());
+            byStatus.incrementAndGet(to.ordinal());
+        });
+    }
+
+    public Map<String, Long> snapshot() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        long total = 0;
+        for (BookingStatus s : STATUSES) {
+            long n = byStatus.get(s.ordinal());
+            stats.put(s.name().toLowerCase(Locale.ROOT), n);
+            total += n;
+        }
+        stats.put("total", total);
+        stats.put("today", currentDay().count.get());
+        return stats;
+    }
+
+    @Scheduled(fixedDelayString = "${app.bookings.stats-reconcile-ms:300000}")
+    public void reconcile() {
+        LocalDate day = LocalDate.now();
+        long[] counts = new long[STATUSES.length];
+        long todayCount = 0;
+        for (Object[] row : bookingRepository.countByStatusWithCreatedSince(day.atStartOfDay())) {
+            counts[((BookingStatus) row[0]).ordinal()] = ((Number) row[1]).longValue();
+            todayCount += row[2] != null ? ((Number) row[2]).longValue() : 0;
+        }
+        for (int i = 0; i < counts.length; i++) {
+            byStatus.set(i, counts[i]);
+        }
+        today = new DayCount(day, todayCount);
+        log.debug("Booking stats reconciled: {}", snapshot());
+    }
+
+    private DayCount currentDay() {
+        DayCount current = today;
+        LocalDate now = LocalDate.now();
+        if (current.day.equals(now)) return current;
+        synchronized (this) {
+            if (!today.day.equals(now)) today = new DayCount(now, 0);
+            return today;
+        }
+    }
+
+    private static final class DayCount {
+        final LocalDate day;
+        final AtomicLong count;
+
+        DayCount(LocalDate day, long count) {
+            this.day = day;
+            this.count = new AtomicLong(count);
+        }
+    }
+}
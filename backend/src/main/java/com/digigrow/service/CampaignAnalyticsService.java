@@ -0,0 +1,40 @@
+package com.digigrow.service;
+
+import com.digigrow.dto.CampaignAnalytics;
+import com.digigrow.enums.CampaignStatus;
+import com.digigrow.repository.AdCampaignRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+
+@Service
+@RequiredArgsConstructor
+public class CampaignAnalyticsService {
+
+    private final AdCampaignRepository campaignRepository;
+
+    /**
+     * Builds the full status x platform breakdown from a single grouped query.
+     */
+    @Transactional(readOnly = true)
+    public CampaignAnalytics compute() {
+        CampaignAnalytics analytics = new CampaignAnalytics();
+        for (Object[] row : campaignRepository.aggregateByStatusAndPlatform()) {
+            analytics.add(
+                    (CampaignStatus) row[0],
+                    (String) row[1],
+                    toLong(row[2]),
+                    toLong(row[3]),
+                    toLong(row[4]),
+                    toLong(row[5]),
+                    (BigDecimal) row[6]);
+        }
+        return analytics;
+    }
+
+    private static long toLong(Object value) {
+        return value != null ? ((Number) value).longValue() : 0L;
+    }
+}
@@ -0,0 +1,177 @@
+package com.digigrow.service;
+
+import com.digigrow.dto.CampaignRequestDto;
+import com.digigrow.dto.ImportReport;
+import com.digigrow.enums.CampaignStatus;
+import com.digigrow.util.CsvReader;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Imports campaigns from CSV. Rows are parsed one at a time, validated against
+ * {@link CampaignRequestDto} and inserted with JDBC batches; ids come from the column's
+ * sequence default, so no per-row identity round trip is needed. Each batch commits on its
+ * own, so a large file never holds one long transaction; a malformed file stops the import
+ * and the report says how many rows were committed before it.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CampaignImportService {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO ad_campaigns (client_name, client_email, client_phone, business_name, platform,
+                                      campaign_type, target_location, budget_daily, budget_monthly,
+                                      start_date, end_date, target_audience, campaign_objective,
+                                      status, impressions, clicks, conversions, spend, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, 0, 0, 0, ?, ?)
+            """;
+
+    private static final int[] INSERT_TYPES = {
+            Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+            Types.VARCHAR, Types.VARCHAR, Types.NUMERIC, Types.NUMERIC,
+            Types.DATE, Types.DATE, Types.VARCHAR, Types.VARCHAR,
+            Types.VARCHAR, Types.TIMESTAMP, Types.TIMESTAMP};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Validator validator;
+    private final PlatformTransactionManager transactionManager;
+
+    public ImportReport importCsv(InputStream in) throws IOException {
+        ImportReport report = new ImportReport();
+        LocalDateTime now = LocalDateTime.now();
+
+        try (CsvReader csv = new CsvReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            List<String> header = csv.next();
+            if (header == null) {
+                throw new IllegalArgumentException("CSV file is empty");
+            }
+            Map<String, Integer> columns = indexHeader(header);
+
+            List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+            List<String> row;
+            while ((row = nextRow(csv, report)) != null) {
+                long rowNumber = report.getTotalRows() + 1;
+                report.setTotalRows(rowNumber);
+
+                List<String> errors = new ArrayList<>();
+                CampaignRequestDto dto = toDto(row, columns, errors);
+                for (ConstraintViolation<CampaignRequestDto> v : validator.validate(dto)) {
+                    errors.add(v.getPropertyPath() + ": " + v.getMessage());
+                }
+                LocalDate startDate = parseDate(dto.getStartDate(), "startDate", errors);
+                LocalDate endDate = parseDate(dto.getEndDate(), "endDate", errors);
+                if (!errors.isEmpty()) {
+                    report.reject(rowNumber, errors);
+                    continue;
+                }
+
+                batch.add(new Object[]{
+                        dto.getClientName(), dto.getClientEmail(), dto.getClientPhone(), dto.getBusinessName(),
+                        dto.getPlatform(), dto.getCampaignType(),
+                        dto.getTargetLocation() != null ? dto.getTargetLocation() : "Delhi, India",
+                        dto.getBudgetDaily(), dto.getBudgetMonthly(), startDate, endDate,
+                        dto.getTargetAudience(), dto.getCampaignObjective(),
+                        CampaignStatus.DRAFT.name(), now, now});
+                if (batch.size() == BATCH_SIZE) {
+                    flush(batch, report);
+                }
+            }
+            flush(batch, report);
+        }
+
+        log.info("Campaign import: {} row(s), {} imported, {} rejected",
+                report.getTotalRows(), report.getImported(), report.getFailed());
+        return report;
+    }
+
+    /** Reads the next row; a malformed file ends the import with the error on the offending row. */
+    private static List<String> nextRow(CsvReader csv, ImportReport report) throws IOException {
+        try {
+            return csv.next();
+        } catch (IllegalArgumentException e) {
+            report.reject(report.getTotalRows() + 1, List.of(e.getMessage()));
+            return null;
+        }
+    }
+
+    private void flush(List<Object[]> batch, ImportReport report) {
+        if (batch.isEmpty()) return;
+        new TransactionTemplate(transactionManager)
+                .executeWithoutResult(tx -> jdbcTemplate.batchUpdate(INSERT_SQL, batch, INSERT_TYPES));
+        report.setImported(report.getImported() + batch.size());
+        batch.clear();
+    }
+
+    private static Map<String, Integer> indexHeader(List<String> header) {
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT);
+            columns.put(name, i);
+        }
+        return columns;
+    }
+
+    private static CampaignRequestDto toDto(List<String> row, Map<String, Integer> columns, List<String> errors) {
+        CampaignRequestDto dto = new CampaignRequestDto();
+        dto.setClientName(cell(row, columns, "clientname"));
+        dto.setClientEmail(cell(row, columns, "clientemail"));
+        dto.setClientPhone(cell(row, columns, "clientphone"));
+        dto.setBusinessName(cell(row, columns, "businessname"));
+        dto.setPlatform(cell(row, columns, "platform"));
+        dto.setCampaignType(cell(row, columns, "campaigntype"));
+        dto.setTargetLocation(cell(row, columns, "targetlocation"));
+        dto.setBudgetDaily(parseDecimal(cell(row, columns, "budgetdaily"), "budgetDaily", errors));
+        dto.setBudgetMonthly(parseDecimal(cell(row, columns, "budgetmonthly"), "budgetMonthly", errors));
+        dto.setStartDate(cell(row, columns, "startdate"));
+        dto.setEndDate(cell(row, columns, "enddate"));
+        dto.setTargetAudience(cell(row, columns, "targetaudience"));
+        dto.setCampaignObjective(cell(row, columns, "campaignobjective"));
+        return dto;
+    }
+
+    private static String cell(List<String> row, Map<String, Integer> columns, String name) {
+        Integer i = columns.get(name);
+        if (i == null || i >= row.size()) return null;
+        String value = row.get(i).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static BigDecimal parseDecimal(String value, String field, List<String> errors) {
+        if (value == null) return null;
+        try {
+            return new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            errors.add(field + ": not a number");
+            return null;
+        }
+    }
+
+    private static LocalDate parseDate(String value, String field, List<String> errors) {
+        if (value == null) return null;
+        try {
+            return LocalDate.parse(value);
+        } catch (RuntimeException e) {
+            errors.add(field + ": expected yyyy-MM-dd");
+            return null;
+        }
+    }
+}
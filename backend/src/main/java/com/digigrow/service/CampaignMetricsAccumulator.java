@@ -0,0 +1,171 @@
+package com.digigrow.service;
+
+import com.digigrow.dto.CampaignMetricsDelta;
+import com.digigrow.entity.AdCampaign;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Write-behind buffer for campaign counters. Increments land in per-campaign {@link LongAdder}
+ * cells without touching the database; a scheduled flush drains the cells into
+ * {@link CampaignMetricsService#applyDeltas} and a final flush runs on shutdown.
+ *
+ * <p>A flush swaps the whole cell map for an empty one and publishes the old map as in-flight
+ * until its deltas commit. {@code swapLock} guarantees no increment lands in a map after it
+ * was swapped out; {@code commitLock} makes {@link #withPending} read the database row and the
+ * pending values on one side of a flush's commit, so nothing is counted twice or missed.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CampaignMetricsAccumulator {
+
+    private final CampaignMetricsService metricsService;
+
+    // Read side: add() and withPending(); write side: the O(1) map swap in flush()
+    private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+    // Read side: withPending(); write side: a flush committing and retiring its in-flight map
+    private final ReentrantReadWriteLock commitLock = new ReentrantReadWriteLock();
+
+    private volatile ConcurrentHashMap<Long, Cell> cells = new ConcurrentHashMap<>();
+
+    // Cells swapped out by the running flush whose deltas are not yet committed.
+    private volatile Map<Long, Cell> inFlight = Map.of();
+
+    public void add(Long campaignId, long impressions, long clicks, long conversions, BigDecimal spend) {
+        swapLock.readLock().lock();
+        try {
+            Cell cell = cells.computeIfAbsent(campaignId, id -> new Cell());
+            if (impressions != 0) cell.impressions.add(impressions);
+            if (clicks != 0) cell.clicks.add(clicks);
+            if (conversions != 0) cell.conversions.add(conversions);
+            if (spend != null && spend.signum() != 0) cell.spendCents.add(toCents(spend));
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Loads the persisted campaign and adds all unflushed increments on top. The load runs
+     * under the same lock as the pending read so a concurrent flush cannot skew the sum.
+     */
+    public AdCampaign withPending(Supplier<AdCampaign> loader) {
+        commitLock.readLock().lock();
+        try {
+            AdCampaign campaign = loader.get();
+            Cell cell;
+            Cell flushing;
+            swapLock.readLock().lock();
+            try {
+                cell = cells.get(campaign.getId());
+                flushing = inFlight.get(campaign.getId());
+            } finally {
+                swapLock.readLock().unlock();
+            }
+            if (cell == null && flushing == null) return campaign;
+
+            long impressions = orZero(campaign.getImpressions());
+            long clicks = orZero(campaign.getClicks());
+            long conversions = orZero(campaign.getConversions());
+            long spendCents = 0;
+            for (Cell c : new Cell[]{cell, flushing}) {
+                if (c == null) continue;
+                impressions += c.impressions.sum();
+                clicks += c.clicks.sum();
+                conversions += c.conversions.sum();
+                spendCents += c.spendCents.sum();
+            }
+
+            return campaign.toBuilder()
+                    .impressions(impressions)
+                    .clicks(clicks)
+                    .conversions((int) Math.min(conversions, Integer.MAX_VALUE))
+                    .spend((campaign.getSpend() != null ? campaign.getSpend() : BigDecimal.ZERO)
+                            .add(fromCents(spendCents)))
+                    .build();
+        } finally {
+            commitLock.readLock().unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.campaigns.metrics-flush-ms:5000}")
+    public synchronized void flush() {
+        if (cells.isEmpty()) return;
+
+        Map<Long, Cell> swapped;
+        swapLock.writeLock().lock();
+        try {
+            swapped = cells;
+            cells = new ConcurrentHashMap<>();
+            inFlight = swapped;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+
+        // No writer can reach the swapped cells any more, so these sums are final
+        List<CampaignMetricsDelta> drained = new ArrayList<>(swapped.size());
+        swapped.forEach((id, cell) -> {
+            long impressions = cell.impressions.sum();
+            long clicks = cell.clicks.sum();
+            long conversions = cell.conversions.sum();
+            long spendCents = cell.spendCents.sum();
+            if (impressions != 0 || clicks != 0 || conversions != 0 || spendCents != 0) {
+                drained.add(new CampaignMetricsDelta(id, impressions, clicks, conversions, fromCents(spendCents)));
+            }
+        });
+
+        commitLock.writeLock().lock();
+        try {
+            if (!drained.isEmpty()) {
+                // Deltas for unknown campaigns are dropped along with the swapped-out map
+                metricsService.applyDeltas(drained);
+                log.debug("Flushed buffered metrics for {} campaign(s)", drained.size());
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to flush buffered campaign metrics, will retry: {}", e.getMessage());
+            drained.forEach(d -> add(d.getCampaignId(), d.getImpressions(), d.getClicks(),
+                    d.getConversions(), d.getSpend()));
+        } finally {
+            inFlight = Map.of();
+            commitLock.writeLock().unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private static long toCents(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    private static BigDecimal fromCents(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    private static long orZero(Number n) {
+        return n != null ? n.longValue() : 0;
+    }
+
+    // Spend is accumulated in hundredths so it can share the lock-free LongAdder path.
+    private static final class Cell {
+        final LongAdder impressions = new LongAdder();
+        final LongAdder clicks = new LongAdder();
+        final LongAdder conversions = new LongAdder();
+        final LongAdder spendCents = new LongAdder();
+    }
+}
@@ -0,0 +1,72 @@
+package com.digigrow.service;
+
+import com.digigrow.enums.MetricGranularity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Compacts HOUR buckets into DAY buckets and DAY buckets into MONTH buckets. Each run
+ * recomputes the recent periods from scratch, so it is idempotent and picks up late deltas.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CampaignMetricsRollupJob {
+
+    private static final String ROLLUP_SQL = """
+            INSERT INTO campaign_metric_buckets
+                   (campaign_id, granularity, bucket_start, impressions, clicks, conversions, spend)
+            SELECT campaign_id, ?, date_trunc('%1$s', bucket_start),
+                   SUM(impressions), SUM(clicks), SUM(conversions)::int, SUM(spend)
+              FROM campaign_metric_buckets
+             WHERE granularity = ? AND bucket_start >= ? AND bucket_start < ?
+             GROUP BY campaign_id, date_trunc('%1$s', bucket_start)
+            ON CONFLICT (campaign_id, granularity, bucket_start) DO UPDATE
+               SET impressions = EXCLUDED.impressions,
+                   clicks      = EXCLUDED.clicks,
+                   conversions = EXCLUDED.conversions,
+                   spend       = EXCLUDED.spend
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.campaigns.hourly-retention-days:30}")
+    private int hourlyRetentionDays;
+
+    @Scheduled(cron = "${app.campaigns.rollup-cron:0 5 * * * *}")
+    @Transactional
+    public void rollup() {
+        LocalDate today = LocalDate.now();
+
+        // Yesterday is included so the first run after midnight closes out the previous day.
+        int days = rollup(MetricGranularity.HOUR, MetricGranularity.DAY, "day",
+                today.minusDays(1).atStartOfDay(), today.plusDays(1).atStartOfDay());
+
+        LocalDate month = today.withDayOfMonth(1);
+        int months = rollup(MetricGranularity.DAY, MetricGranularity.MONTH, "month",
+                month.minusMonths(1).atStartOfDay(), month.plusMonths(1).atStartOfDay());
+
+        // Hourly rows must outlive the two-day rollup window above.
+        LocalDateTime cutoff = today.minusDays(Math.max(2, hourlyRetentionDays)).atStartOfDay();
+        int purged = jdbcTemplate.update(
+                "DELETE FROM campaign_metric_buckets WHERE granularity = ? AND bucket_start < ?",
+                MetricGranularity.HOUR.name(), cutoff);
+
+        log.info("Campaign metrics rollup: {} day bucket(s), {} month bucket(s), {} hourly bucket(s) purged",
+                days, months, purged);
+    }
+
+    private int rollup(MetricGranularity source, MetricGranularity target, String truncUnit,
+                       LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.update(ROLLUP_SQL.formatted(truncUnit),
+                target.name(), source.name(), from, to);
+    }
+}
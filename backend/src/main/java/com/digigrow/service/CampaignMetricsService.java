@@ -0,0 +1,137 @@
+package com.digigrow.service;
+
+import com.digigrow.dto.CampaignMetricsDelta;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CampaignMetricsService {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    // One set-based statement per chunk: the deltas travel as parallel arrays, are added in
+    // place (so concurrent writers never overwrite each other's totals) and are folded into
+    // the current HOUR bucket of campaign_metric_buckets in the same round trip.
+    private static final String APPLY_DELTAS_SQL = """
+            WITH d AS (
+                SELECT * FROM unnest(?::int8[], ?::int8[], ?::int8[], ?::int8[], ?::numeric[])
+                         AS t(id, impressions, clicks, conversions, spend)
+            ), updated AS (
+                UPDATE ad_campaigns a
+                   SET impressions = COALESCE(a.impressions, 0) + d.impressions,
+                       clicks      = COALESCE(a.clicks, 0) + d.clicks,
+                       conversions = COALESCE(a.conversions, 0) + d.conversions,
+                       spend       = COALESCE(a.spend, 0) + d.spend,
+                       updated_at  = now()
+                  FROM d
+                 WHERE a.id = d.id
+                RETURNING a.id
+            ), bucketed AS (
+                INSERT INTO campaign_metric_buckets
+                       (campaign_id, granularity, bucket_start, impressions, clicks, conversions, spend)
+                SELECT d.id, 'HOUR', ?, d.impressions, d.clicks, d.conversions, d.spend
+                  FROM d JOIN updated u ON u.id = d.id
+                ON CONFLICT (campaign_id, granularity, bucket_start) DO UPDATE
+                   SET impressions = campaign_metric_buckets.impressions + EXCLUDED.impressions,
+                       clicks      = campaign_metric_buckets.clicks + EXCLUDED.clicks,
+                       conversions = campaign_metric_buckets.conversions + EXCLUDED.conversions,
+                       spend       = campaign_metric_buckets.spend + EXCLUDED.spend
+            )
+            SELECT id FROM updated
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Adds the given deltas to the campaign totals. Records for the same campaign are merged
+     * first and campaigns are updated in id order so concurrent batches cannot deadlock.
+     */
+    @Transactional
+    public Map<String, Object> applyDeltas(Collection<CampaignMetricsDelta> deltas) {
+        SortedMap<Long, CampaignMetricsDelta> merged = merge(deltas);
+        Set<Long> applied = new HashSet<>();
+
+        List<CampaignMetricsDelta> chunk = new ArrayList<>(Math.min(CHUNK_SIZE, merged.size()));
+        for (CampaignMetricsDelta delta : merged.values()) {
+            chunk.add(delta);
+            if (chunk.size() == CHUNK_SIZE) {
+                applied.addAll(applyChunk(chunk));
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            applied.addAll(applyChunk(chunk));
+        }
+
+        List<Long> unknown = merged.keySet().stream()
+                .filter(id -> !applied.contains(id))
+                .toList();
+        if (!unknown.isEmpty()) {
+            log.warn("Metrics received for {} unknown campaign(s)", unknown.size());
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("received", deltas.size());
+        result.put("applied", applied.size());
+        result.put("unknownCampaignIds", unknown);
+        return result;
+    }
+
+    private List<Long> applyChunk(List<CampaignMetricsDelta> chunk) {
+        LocalDateTime hour = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+        int n = chunk.size();
+        Long[] ids = new Long[n];
+        Long[] impressions = new Long[n];
+        Long[] clicks = new Long[n];
+        Long[] conversions = new Long[n];
+        BigDecimal[] spend = new BigDecimal[n];
+        for (int i = 0; i < n; i++) {
+            CampaignMetricsDelta d = chunk.get(i);
+            ids[i] = d.getCampaignId();
+            impressions[i] = d.getImpressions();
+            clicks[i] = d.getClicks();
+            conversions[i] = d.getConversions();
+            spend[i] = d.getSpend();
+        }
+
+        return jdbcTemplate.query(APPLY_DELTAS_SQL, ps -> {
+            Connection con = ps.getConnection();
+            ps.setArray(1, con.createArrayOf("int8", ids));
+            ps.setArray(2, con.createArrayOf("int8", impressions));
+            ps.setArray(3, con.createArrayOf("int8", clicks));
+            ps.setArray(4, con.createArrayOf("int8", conversions));
+            ps.setArray(5, con.createArrayOf("numeric", spend));
+            ps.setObject(6, hour);
+        }, (rs, rowNum) -> rs.getLong(1));
+    }
+
+    private static SortedMap<Long, CampaignMetricsDelta> merge(Collection<CampaignMetricsDelta> deltas) {
+        SortedMap<Long, CampaignMetricsDelta> merged = new TreeMap<>();
+        for (CampaignMetricsDelta d : deltas) {
+            if (d == null || d.getCampaignId() == null) {
+                throw new IllegalArgumentException("Every metrics record needs a campaignId");
+            }
+            BigDecimal spend = d.getSpend() != null ? d.getSpend() : BigDecimal.ZERO;
+            merged.merge(d.getCampaignId(),
+                    new CampaignMetricsDelta(d.getCampaignId(), d.getImpressions(), d.getClicks(),
+                            d.getConversions(), spend),
+                    (a, b) -> new CampaignMetricsDelta(a.getCampaignId(),
+                            a.getImpressions() + b.getImpressions(),
+                            a.getClicks() + b.getClicks(),
+                            a.getConversions() + b.getConversions(),
+                            a.getSpend().add(b.getSpend())));
+        }
+        return merged;
+    }
+}
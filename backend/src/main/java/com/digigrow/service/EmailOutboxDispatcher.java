@@ -0,0 +1,157 @@
+package com.digigrow.service;
+
+import com.digigrow.entity.EmailOutboxMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.internet.MimeMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains the email outbox on a dedicated, bounded sender pool. The pool is owned here rather
+ * than exposed as a bean so slow SMTP can never starve the shared @Async executor. Claimed
+ * rows are split into chunks, and each chunk is sent over one pooled SMTP connection. Only
+ * the poller submits work, and it never claims more than the pool queue can take.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EmailOutboxDispatcher {
+
+    private final EmailOutboxService outboxService;
+    private final EmailService emailService;
+    private final SmtpTransportPool transportPool;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.mail.sender-threads:4}")
+    private int senderThreads;
+
+    @Value("${app.mail.sender-queue:200}")
+    private int senderQueue;
+
+    @Value("${app.mail.batch-size:50}")
+    private int batchSize;
+
+    // Messages sent back-to-back over one pooled SMTP connection by a single sender task
+    @Value("${app.mail.chunk-size:10}")
+    private int chunkSize;
+
+    @Value("${app.mail.stale-after-ms:300000}")
+    private long staleAfterMs;
+
+    private ThreadPoolExecutor senders;
+    private final AtomicLong pendingDepth = new AtomicLong();
+
+    private Timer sendLatency;
+    private Counter sentCounter;
+    private Counter failedCounter;
+    private Counter deadCounter;
+
+    @PostConstruct
+    void start() {
+        AtomicInteger threadId = new AtomicInteger();
+        senders = new ThreadPoolExecutor(senderThreads, senderThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(senderQueue),
+                r -> {
+                    Thread t = new Thread(r, "email-sender-" + threadId.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+
+        Gauge.builder("email.outbox.pending", pendingDepth, AtomicLong::get)
+                .description("Outbox messages waiting to be sent")
+                .register(meterRegistry);
+        Gauge.builder("email.sender.queue", senders, e -> e.getQueue().size())
+                .description("Claimed messages waiting for a sender thread")
+                .register(meterRegistry);
+        sendLatency = Timer.builder("email.send.latency")
+                .description("SMTP send time per message")
+                .register(meterRegistry);
+        sentCounter = Counter.builder("email.send").tag("result", "sent").register(meterRegistry);
+        failedCounter = Counter.builder("email.send").tag("result", "failed").register(meterRegistry);
+        deadCounter = Counter.builder("email.send").tag("result", "dead").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.mail.poll-ms:1000}")
+    public void dispatch() {
+        int capacity = senders.getQueue().remainingCapacity();
+        if (capacity == 0) return;
+
+        int chunk = Math.max(1, chunkSize);
+        List<EmailOutboxMessage> batch = outboxService.claimBatch(Math.min(batchSize, capacity * chunk));
+        for (int from = 0; from < batch.size(); from += chunk) {
+            List<EmailOutboxMessage> messages = batch.subList(from, Math.min(from + chunk, batch.size()));
+            senders.execute(() -> sendChunk(messages));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.mail.maintenance-ms:30000}")
+    public void maintain() {
+        int released = outboxService.releaseStale(LocalDateTime.now().minusNanos(staleAfterMs * 1_000_000));
+        if (released > 0) {
+            log.warn("Released {} outbox message(s) stuck in SENDING", released);
+        }
+        pendingDepth.set(outboxService.countPending());
+    }
+
+    private void sendChunk(List<EmailOutboxMessage> chunk) {
+        List<EmailOutboxMessage> built = new ArrayList<>(chunk.size());
+        List<MimeMessage> mimeMessages = new ArrayList<>(chunk.size());
+        for (EmailOutboxMessage message : chunk) {
+            try {
+                mimeMessages.add(emailService.toMimeMessage(message));
+                built.add(message);
+            } catch (Exception e) {
+                recordFailure(message, e);
+            }
+        }
+        if (built.isEmpty()) return;
+
+        List<SmtpTransportPool.SendResult> results = transportPool.send(mimeMessages);
+        for (int i = 0; i < built.size(); i++) {
+            EmailOutboxMessage message = built.get(i);
+            SmtpTransportPool.SendResult result = results.get(i);
+            sendLatency.record(result.nanos(), TimeUnit.NANOSECONDS);
+            if (result.isSent()) {
+                outboxService.markSent(message.getId());
+                sentCounter.increment();
+                log.info("Email #{} sent to: {}", message.getId(), message.getRecipient());
+            } else {
+                recordFailure(message, result.error());
+            }
+        }
+    }
+
+    private void recordFailure(EmailOutboxMessage message, Exception e) {
+        log.warn("Failed to send email #{} to {}: {}", message.getId(), message.getRecipient(), e.getMessage());
+        failedCounter.increment();
+        if (outboxService.markFailed(message.getId(), e.getMessage())) {
+            deadCounter.increment();
+        }
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        senders.shutdown();
+        if (!senders.awaitTermination(30, TimeUnit.SECONDS)) {
+            // Anything still in flight stays SENDING and is released by maintain() on the next start
+            senders.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.digigrow.service;
+
+import com.digigrow.entity.EmailOutboxMessage;
+import com.digigrow.enums.EmailOutboxStatus;
+import com.digigrow.repository.EmailOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class EmailOutboxService {
+
+    private final EmailOutboxRepository outboxRepository;
+
+    @Value("${app.mail.max-attempts:6}")
+    private int maxAttempts;
+
+    @Value("${app.mail.retry-base-ms:30000}")
+    private long retryBaseMs;
+
+    @Value("${app.mail.retry-max-ms:3600000}")
+    private long retryMaxMs;
+
+    /**
+     * Queues an email. Joins the caller's transaction, so the message is only sent if the
+     * business change that triggered it commits.
+     */
+    public EmailOutboxMessage enqueue(String recipient, String subject, String html) {
+        return outboxRepository.save(EmailOutboxMessage.builder()
+                .recipient(recipient)
+                .subject(subject)
+                .body(html)
+                .status(EmailOutboxStatus.PENDING)
+                .build());
+    }
+
+    /** Locks up to {@code limit} due messages and marks them as being sent. */
+    public List<EmailOutboxMessage> claimBatch(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<EmailOutboxMessage> batch = outboxRepository.lockDue(now, limit);
+        for (EmailOutboxMessage message : batch) {
+            message.setStatus(EmailOutboxStatus.SENDING);
+            message.setClaimedAt(now);
+        }
+        return batch;
+    }
+
+    public void markSent(Long id) {
+        outboxRepository.findById(id).ifPresent(m -> {
+            m.setStatus(EmailOutboxStatus.SENT);
+            m.setAttempts(m.getAttempts() + 1);
+            m.setSentAt(LocalDateTime.now());
+            m.setLastError(null);
+        });
+    }
+
+    /**
+     * Records a failed attempt and schedules a retry with exponential backoff.
+     * Returns true when the message has used up its attempts and was dead-lettered.
+     */
+    public boolean markFailed(Long id, String error) {
+        EmailOutboxMessage m = outboxRepository.findById(id).orElse(null);
+        if (m == null) return false;
+
+        int attempts = m.getAttempts() + 1;
+        m.setAttempts(attempts);
+        m.setLastError(error != null && error.length() > 1000 ? error.substring(0, 1000) : error);
+        if (attempts >= maxAttempts) {
+            m.setStatus(EmailOutboxStatus.DEAD);
+            log.error("Email #{} to {} dead-lettered after {} attempts: {}", id, m.getRecipient(), attempts, error);
+            return true;
+        }
+        long delay = Math.min(retryMaxMs, retryBaseMs << Math.min(attempts - 1, 20));
+        m.setStatus(EmailOutboxStatus.PENDING);
+        m.setNextAttemptAt(LocalDateTime.now().plusNanos(delay * 1_000_000));
+        return false;
+    }
+
+    /** Returns messages stuck in SENDING (e.g. after a crash) to the queue. */
+    public int releaseStale(LocalDateTime claimedBefore) {
+        return outboxRepository.releaseStale(claimedBefore);
+    }
+
+    @Transactional(readOnly = true)
+    public long countPending() {
+        return outboxRepository.countByStatus(EmailOutboxStatus.PENDING);
+    }
+}
@@ -2,6 +2,7 @@ package com.digigrow.service;
 
 import com.digigrow.entity.BookingConsultation;
 import com.digigrow.entity.ContactMessage;
+import com.digigrow.entity.EmailOutboxMessage;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
@@ -9,15 +10,24 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class EmailService {
 
+    private static final DateTimeFormatter DIGEST_TIME = DateTimeFormatter.ofPattern("dd MMM yyyy, HH:mm");
+
     private final JavaMailSender mailSender;
+    private final EmailOutboxService outboxService;
+    private final EmailTemplates templates;
 
     @Value("${app.email.from}")
     private String fromEmail;
@@ -28,105 +38,84 @@ public class EmailService {
     @Value("${app.name}")
     private String appName;
 
-    @Async
-    public void sendBookingConfirmation(BookingConsultation booking) {
-        try {
-            MimeMessage message = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-
-            helper.setFrom(fromEmail);
-            helper.setTo(booking.getEmail());
-            helper.setSubject("✅ Booking Confirmed - " + appName);
-
-            String html = buildBookingConfirmationEmail(booking);
-            helper.setText(html, true);
+    // The send* methods only write to the outbox; EmailOutboxDispatcher does the SMTP work.
+    // They join the caller's transaction, so a rolled-back booking never emails anyone.
 
-            mailSender.send(message);
-            log.info("Booking confirmation sent to: {}", booking.getEmail());
-        } catch (MessagingException e) {
-            log.error("Failed to send confirmation email to {}: {}", booking.getEmail(), e.getMessage());
-        }
+    public void sendBookingConfirmation(BookingConsultation booking) {
+        outboxService.enqueue(booking.getEmail(), "✅ Booking Confirmed - " + appName,
+                templates.render("booking-confirmation", bookingModel(booking)));
     }
 
-    @Async
     public void sendAdminNotification(BookingConsultation booking) {
-        try {
-            MimeMessage message = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-
-            helper.setFrom(fromEmail);
-            helper.setTo(adminEmail);
-            helper.setSubject("🔔 New Booking #" + booking.getId() + " - " + booking.getFullName());
-
-            String html = "<h2>New Consultation Booking</h2>"
-                    + "<p><b>Name:</b> " + booking.getFullName() + "</p>"
-                    + "<p><b>Email:</b> " + booking.getEmail() + "</p>"
-                    + "<p><b>Phone:</b> " + booking.getPhone() + "</p>"
-                    + "<p><b>Business:</b> " + booking.getBusinessName() + "</p>"
-                    + "<p><b>Service:</b> " + booking.getServiceType() + "</p>"
-                    + "<p><b>Budget:</b> " + booking.getMonthlyBudget() + "</p>"
-                    + "<p><b>Message:</b> " + booking.getMessage() + "</p>";
-
-            helper.setText(html, true);
-            mailSender.send(message);
-            log.info("Admin notification sent for booking #{}", booking.getId());
-        } catch (MessagingException e) {
-            log.error("Failed to send admin notification: {}", e.getMessage());
+        outboxService.enqueue(adminEmail,
+                "🔔 New Booking #" + booking.getId() + " - " + booking.getFullName(),
+                templates.render("admin-booking-notification", bookingModel(booking)));
+    }
+
+    /**
+     * Sends one email listing several bookings; a lone booking gets the regular notification.
+     * Joins the digester's flush transaction, which also removes the bookings' digest entries.
+     */
+    public void sendAdminDigest(List<BookingConsultation> bookings) {
+        if (bookings.size() == 1) {
+            sendAdminNotification(bookings.get(0));
+            return;
         }
+        StringBuilder rows = new StringBuilder();
+        for (BookingConsultation booking : bookings) {
+            rows.append(templates.render("admin-booking-digest-row", bookingModel(booking)));
+        }
+
+        Map<String, Object> model = new HashMap<>();
+        model.put("count", bookings.size());
+        model.put("from", formatTime(bookings.get(0).getCreatedAt()));
+        model.put("to", formatTime(bookings.get(bookings.size() - 1).getCreatedAt()));
+        model.put("rows", rows);
+
+        outboxService.enqueue(adminEmail, "🔔 " + bookings.size() + " New Bookings - " + appName,
+                templates.render("admin-booking-digest", model));
     }
 
-    @Async
     public void sendContactConfirmation(ContactMessage contact) {
-        try {
-            MimeMessage message = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-
-            helper.setFrom(fromEmail);
-            helper.setTo(contact.getEmail());
-            helper.setSubject("Thank you for contacting " + appName);
-
-            String html = "<h2>We received your message!</h2>"
-                    + "<p>Dear " + contact.getFullName() + ",</p>"
-                    + "<p>Thank you for reaching out. Our team will get back to you within 24 hours.</p>"
-                    + "<br/><p>Best regards,<br/>" + appName + " Team</p>";
-
-            helper.setText(html, true);
-            mailSender.send(message);
-        } catch (MessagingException e) {
-            log.error("Failed to send contact confirmation: {}", e.getMessage());
-        }
+        Map<String, Object> model = new HashMap<>();
+        model.put("fullName", contact.getFullName());
+        model.put("appName", appName);
+
+        outboxService.enqueue(contact.getEmail(), "Thank you for contacting " + appName,
+                templates.render("contact-confirmation", model));
+    }
+
+    /** Builds the MIME message for an outbox row; sending is left to SmtpTransportPool. */
+    public MimeMessage toMimeMessage(EmailOutboxMessage outboxMessage) throws MessagingException {
+        return buildMessage(outboxMessage.getRecipient(), outboxMessage.getSubject(), outboxMessage.getBody());
+    }
+
+    public MimeMessage buildMessage(String to, String subject, String html) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+
+        helper.setFrom(fromEmail);
+        helper.setTo(to);
+        helper.setSubject(subject);
+        helper.setText(html, true);
+        return message;
+    }
+
+    // HashMap rather than Map.of: optional booking fields may be null
+    private static Map<String, Object> bookingModel(BookingConsultation booking) {
+        Map<String, Object> model = new HashMap<>();
+        model.put("id", booking.getId());
+        model.put("fullName", booking.getFullName());
+        model.put("email", booking.getEmail());
+        model.put("phone", booking.getPhone());
+        model.put("businessName", booking.getBusinessName());
+        model.put("serviceType", booking.getServiceType());
+        model.put("monthlyBudget", booking.getMonthlyBudget());
+        model.put("message", booking.getMessage());
+        return model;
     }
 
-    private String buildBookingConfirmationEmail(BookingConsultation booking) {
-        return """
-            <!DOCTYPE html>
-            <html>
-            <body style="font-family: Arial, sans-serif; max-width: 600px; margin: 0 auto;">
-                <div style="background: linear-gradient(135deg, #FF6B35, #FF8E53); padding: 30px; text-align: center;">
-                    <h1 style="color: white; margin: 0;">DigiGrow</h1>
-                    <p style="color: rgba(255,255,255,0.9); margin: 10px 0 0;">Digital Marketing Agency</p>
-                </div>
-                <div style="padding: 30px; background: white;">
-                    <h2 style="color: #1A1A2E;">Your Consultation is Booked! ✅</h2>
-                    <p>Dear %s,</p>
-                    <p>Thank you for booking a consultation with DigiGrow. We're excited to help grow your business!</p>
-                    <div style="background: #f5f5f5; padding: 20px; border-radius: 10px; margin: 20px 0;">
-                        <h3 style="color: #FF6B35; margin-top: 0;">Booking Details</h3>
-                        <p><strong>Service:</strong> %s</p>
-                        <p><strong>Budget:</strong> %s</p>
-                        <p><strong>Business:</strong> %s</p>
-                    </div>
-                    <p>Our team will call you at <strong>%s</strong> to confirm the consultation time.</p>
-                    <p>You can also reach us at: <a href="mailto:hello@digigrow.agency">hello@digigrow.agency</a></p>
-                </div>
-            </body>
-            </html>
-            """.formatted(
-                booking.getFullName(),
-                booking.getServiceType(),
-                booking.getMonthlyBudget(),
-                booking.getBusinessName(),
-                booking.getPhone()
-        );
+    private static String formatTime(LocalDateTime time) {
+        return time != null ? DIGEST_TIME.format(time) : "";
     }
 }
@@ -0,0 +1,69 @@
+package com.digigrow.service;
+
+import com.digigrow.util.Template;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loads every {@code templates/email/*.html} from the classpath once at startup and renders
+ * them by name, recording render time per template as {@code email.template.render}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EmailTemplates {
+
+    private static final String LOCATION = "classpath*:templates/email/*.html";
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, CompiledTemplate> templates = new HashMap<>();
+
+    private record CompiledTemplate(Template template, Timer renderTimer) {
+    }
+
+    @PostConstruct
+    void load() throws IOException {
+        for (Resource resource : new PathMatchingResourcePatternResolver().getResources(LOCATION)) {
+            String filename = resource.getFilename();
+            if (filename == null) continue;
+            String name = filename.substring(0, filename.length() - ".html".length());
+            try (InputStream in = resource.getInputStream()) {
+                String source = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+                templates.put(name, new CompiledTemplate(
+                        Template.compile(name, source),
+                        Timer.builder("email.template.render")
+                                .description("Time to render an email template")
+                                .tag("template", name)
+                                .register(meterRegistry)));
+            }
+        }
+        log.info("Loaded {} email template(s): {}", templates.size(), templates.keySet());
+    }
+
+    public String render(String name, Map<String, ?> model) {
+        CompiledTemplate compiled = templates.get(name);
+        if (compiled == null) {
+            throw new IllegalArgumentException("Unknown email template: " + name);
+        }
+        long start = System.nanoTime();
+        try {
+            return compiled.template().render(model);
+        } finally {
+            compiled.renderTimer().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.digigrow.service;
+
+import com.digigrow.entity.AdCampaign;
+import com.digigrow.entity.BookingConsultation;
+import com.digigrow.entity.NewsletterSubscriber;
+import com.digigrow.enums.BookingStatus;
+import com.digigrow.enums.CampaignStatus;
+import com.digigrow.enums.ExportFormat;
+import com.digigrow.repository.AdCampaignRepository;
+import com.digigrow.repository.BookingConsultationRepository;
+import com.digigrow.repository.NewsletterSubscriberRepository;
+import com.digigrow.util.Csv;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.*;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Streams whole tables to CSV or NDJSON straight off a forward-only JDBC cursor. Each row is
+ * written and detached before the next is read, so memory stays flat regardless of row count.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ExportService {
+
+    private static final List<Column<BookingConsultation>> BOOKING_COLUMNS = List.of(
+            new Column<>("id", BookingConsultation::getId),
+            new Column<>("fullName", BookingConsultation::getFullName),
+            new Column<>("email", BookingConsultation::getEmail),
+            new Column<>("phone", BookingConsultation::getPhone),
+            new Column<>("businessName", BookingConsultation::getBusinessName),
+            new Column<>("city", BookingConsultation::getCity),
+            new Column<>("serviceType", BookingConsultation::getServiceType),
+            new Column<>("monthlyBudget", BookingConsultation::getMonthlyBudget),
+            new Column<>("message", BookingConsultation::getMessage),
+            new Column<>("status", BookingConsultation::getStatus),
+            new Column<>("scheduledDate", BookingConsultation::getScheduledDate),
+            new Column<>("notes", BookingConsultation::getNotes),
+            new Column<>("createdAt", BookingConsultation::getCreatedAt),
+            new Column<>("updatedAt", BookingConsultation::getUpdatedAt));
+
+    private static final List<Column<AdCampaign>> CAMPAIGN_COLUMNS = List.of(
+            new Column<>("id", AdCampaign::getId),
+            new Column<>("clientName", AdCampaign::getClientName),
+            new Column<>("clientEmail", AdCampaign::getClientEmail),
+            new Column<>("clientPhone", AdCampaign::getClientPhone),
+            new Column<>("businessName", AdCampaign::getBusinessName),
+            new Column<>("platform", AdCampaign::getPlatform),
+            new Column<>("campaignType", AdCampaign::getCampaignType),
+            new Column<>("targetLocation", AdCampaign::getTargetLocation),
+            new Column<>("budgetDaily", AdCampaign::getBudgetDaily),
+            new Column<>("budgetMonthly", AdCampaign::getBudgetMonthly),
+            new Column<>("startDate", AdCampaign::getStartDate),
+            new Column<>("endDate", AdCampaign::getEndDate),
+            new Column<>("status", AdCampaign::getStatus),
+            new Column<>("impressions", AdCampaign::getImpressions),
+            new Column<>("clicks", AdCampaign::getClicks),
+            new Column<>("conversions", AdCampaign::getConversions),
+            new Column<>("spend", AdCampaign::getSpend),
+            new Column<>("ctr", AdCampaign::getCtr),
+            new Column<>("cpc", AdCampaign::getCpc),
+            new Column<>("createdAt", AdCampaign::getCreatedAt),
+            new Column<>("updatedAt", AdCampaign::getUpdatedAt));
+
+    private static final List<Column<NewsletterSubscriber>> SUBSCRIBER_COLUMNS = List.of(
+            new Column<>("email", NewsletterSubscriber::getEmail),
+            new Column<>("name", NewsletterSubscriber::getName),
+            new Column<>("subscribedAt", NewsletterSubscriber::getSubscribedAt));
+
+    private final BookingConsultationRepository bookingRepository;
+    private final AdCampaignRepository campaignRepository;
+    private final NewsletterSubscriberRepository subscriberRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public void exportBookings(BookingStatus status, ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<BookingConsultation> rows = status != null
+                ? bookingRepository.streamByStatus(status)
+                : bookingRepository.streamAll()) {
+            long count = write(rows, BOOKING_COLUMNS, format, out);
+            log.info("Exported {} booking(s) as {}", count, format);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void exportCampaigns(CampaignStatus status, String platform, ExportFormat format,
+                                OutputStream out) throws IOException {
+        Stream<AdCampaign> source;
+        if (status != null) {
+            source = campaignRepository.streamByStatus(status);
+        } else if (platform != null) {
+            source = campaignRepository.streamByPlatform(platform);
+        } else {
+            source = campaignRepository.streamAll();
+        }
+        try (Stream<AdCampaign> rows = source) {
+            long count = write(rows, CAMPAIGN_COLUMNS, format, out);
+            log.info("Exported {} campaign(s) as {}", count, format);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void exportSubscribers(ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<NewsletterSubscriber> rows = subscriberRepository.streamActive()) {
+            long count = write(rows, SUBSCRIBER_COLUMNS, format, out);
+            log.info("Exported {} newsletter subscriber(s) as {}", count, format);
+        }
+    }
+
+    private <T> long write(Stream<T> rows, List<Column<T>> columns, ExportFormat format,
+                           OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 16 * 1024);
+        long count = 0;
+        Iterator<T> it = rows.iterator();
+
+        if (format == ExportFormat.CSV) {
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) writer.write(',');
+                writer.write(columns.get(i).name());
+            }
+            writer.write("\r\n");
+            while (it.hasNext()) {
+                T row = it.next();
+                for (int i = 0; i < columns.size(); i++) {
+                    if (i > 0) writer.write(',');
+                    Csv.writeField(writer, asText(columns.get(i).value().apply(row)));
+                }
+                writer.write("\r\n");
+                entityManager.detach(row);
+                count++;
+            }
+            writer.flush();
+        } else {
+            JsonGenerator json = objectMapper.getFactory().createGenerator(writer);
+            json.setRootValueSeparator(null);
+            while (it.hasNext()) {
+                T row = it.next();
+                json.writeStartObject();
+                for (Column<T> column : columns) {
+                    json.writeFieldName(column.name());
+                    json.writeObject(column.value().apply(row));
+                }
+                json.writeEndObject();
+                json.writeRaw('\n');
+                entityManager.detach(row);
+                count++;
+            }
+            json.flush();
+        }
+        return count;
+    }
+
+    private static String asText(Object value) {
+        if (value == null) return null;
+        if (value instanceof BigDecimal decimal) return decimal.toPlainString();
+        return value.toString();
+    }
+
+    private record Column<T>(String name, Function<T, Object> value) {
+    }
+}
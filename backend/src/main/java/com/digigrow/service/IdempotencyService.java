@@ -0,0 +1,103 @@
+package com.digigrow.service;
+
+import com.digigrow.repository.IdempotencyRecordRepository;
+import com.digigrow.util.TtlCache;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Stored responses for {@code Idempotency-Key} requests. Completed responses are served from a
+ * bounded in-memory cache backed by the {@code idempotency_keys} table; concurrent requests for
+ * the same key on this node share one execution, and the table's in-progress marker keeps other
+ * nodes from running it twice.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class IdempotencyService {
+
+    private final IdempotencyRecordRepository repository;
+
+    @Value("${app.idempotency.ttl-ms:86400000}")
+    private long ttlMs;
+
+    @Value("${app.idempotency.cache-size:10000}")
+    private int cacheSize;
+
+    // How long an in-progress marker is honoured before a retry may take the key over.
+    @Value("${app.idempotency.lease-ms:60000}")
+    private long leaseMs;
+
+    private TtlCache<String, StoredResponse> cache;
+    private final ConcurrentHashMap<String, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        cache = new TtlCache<>(cacheSize, ttlMs);
+    }
+
+    public Optional<StoredResponse> find(String key) {
+        StoredResponse cached = cache.get(key);
+        if (cached != null) return Optional.of(cached);
+
+        return repository.findById(key)
+                .filter(r -> r.getStatusCode() != null && r.getExpiresAt().isAfter(LocalDateTime.now()))
+                .map(r -> {
+                    StoredResponse stored = new StoredResponse(r.getRequestHash(), r.getStatusCode(),
+                            r.getContentType(), r.getBody());
+                    cache.put(key, stored, r.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+                    return stored;
+                });
+    }
+
+    /**
+     * Registers this request as the local executor for the key. Returns {@code null} when the
+     * caller should execute, otherwise the future of the request already running it.
+     */
+    public CompletableFuture<StoredResponse> joinInFlight(String key, CompletableFuture<StoredResponse> mine) {
+        return inFlight.putIfAbsent(key, mine);
+    }
+
+    public void leaveInFlight(String key, CompletableFuture<StoredResponse> mine) {
+        inFlight.remove(key, mine);
+    }
+
+    /** Claims the key in the shared table; false when another node is processing it. */
+    public boolean claim(String key, String requestHash) {
+        LocalDateTime now = LocalDateTime.now();
+        return repository.claim(key, requestHash, now, now.plusNanos(ttlMs * 1_000_000), now.minusNanos(leaseMs * 1_000_000)) > 0;
+    }
+
+    public void complete(String key, StoredResponse response) {
+        repository.complete(key, response.status(), response.contentType(), response.body());
+        cache.put(key, response);
+    }
+
+    /** Drops the in-progress marker so the request can be retried (used for failures). */
+    public void release(String key) {
+        repository.release(key);
+    }
+
+    @Scheduled(fixedDelayString = "${app.idempotency.purge-ms:600000}")
+    public void purgeExpired() {
+        int rows = repository.deleteExpired(LocalDateTime.now());
+        int entries = cache.purgeExpired();
+        if (rows > 0 || entries > 0) {
+            log.debug("Purged {} expired idempotency key(s), {} cache entr(ies)", rows, entries);
+        }
+    }
+
+    /** A final response and the hash of the request body it answered. */
+    public record StoredResponse(String requestHash, int status, String contentType, byte[] body) {
+    }
+}
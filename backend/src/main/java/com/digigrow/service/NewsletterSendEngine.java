@@ -0,0 +1,307 @@
+package com.digigrow.service;
+
+import com.digigrow.entity.NewsletterIssue;
+import com.digigrow.enums.NewsletterIssueStatus;
+import com.digigrow.repository.NewsletterIssueRepository;
+import com.digigrow.util.Template;
+import com.digigrow.util.TokenBucket;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.internet.MimeMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends a newsletter issue to every active subscriber. A coordinator thread per issue walks
+ * subscribers in id order, one keyset page at a time, skipping anyone already recorded as SENT
+ * for the issue. Pages are cut into batches handed to a shared worker pool; each batch waits
+ * on a shared rate limiter, goes out over one pooled SMTP connection and records its delivery
+ * rows in a single JDBC batch. A semaphore caps in-flight batches per issue, so memory stays
+ * flat regardless of list size, and a stopped or crashed run resumes where it left off.
+ * Delivery is at-least-once: a batch sent but not yet recorded when the process dies is resent.
+ * <p>
+ * An issue is sent by one instance at a time: the coordinator claims it with a conditional
+ * update and renews that lease every page, stopping as soon as the renewal fails (the issue was
+ * paused, possibly on another instance, or its lease was taken over). Every instance periodically
+ * picks up SENDING issues whose owner released them or stopped heartbeating. Starting an issue
+ * that was already sent retries the recipients whose delivery FAILED.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NewsletterSendEngine {
+
+    private static final String PAGE_SQL = """
+            SELECT s.id, s.email, s.name
+            FROM newsletter_subscribers s
+            WHERE s.is_active AND s.id > ?
+              AND NOT EXISTS (SELECT 1 FROM newsletter_deliveries d
+                              WHERE d.issue_id = ? AND d.subscriber_id = s.id AND d.status = 'SENT')
+            ORDER BY s.id
+            LIMIT ?
+            """;
+
+    private static final String RECORD_SQL = """
+            INSERT INTO newsletter_deliveries (issue_id, subscriber_id, status, error, attempted_at)
+            VALUES (?, ?, ?, ?, ?)
+            ON CONFLICT (issue_id, subscriber_id)
+            DO UPDATE SET status = EXCLUDED.status, error = EXCLUDED.error, attempted_at = EXCLUDED.attempted_at
+            """;
+
+    private final NewsletterIssueRepository issueRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final EmailService emailService;
+    private final SmtpTransportPool transportPool;
+    private final NewsletterService newsletterService;
+
+    @Value("${app.newsletter.workers:4}")
+    private int workerCount;
+
+    @Value("${app.newsletter.page-size:500}")
+    private int pageSize;
+
+    // Recipients per worker task, sent back-to-back over one SMTP connection
+    @Value("${app.newsletter.batch-size:20}")
+    private int batchSize;
+
+    @Value("${app.newsletter.rate-per-second:20}")
+    private double ratePerSecond;
+
+    @Value("${app.frontend-url:https://digigrow.agency}")
+    private String frontendUrl;
+
+    // An owner that hasn't renewed its claim for this long is presumed dead
+    @Value("${app.newsletter.lease-ms:300000}")
+    private long leaseMs;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private ThreadPoolExecutor workers;
+    private TokenBucket rateLimiter;
+    private final Map<Long, Run> runs = new ConcurrentHashMap<>();
+
+    private record Recipient(long id, String email, String name) {
+    }
+
+    @PostConstruct
+    void init() {
+        AtomicInteger threadId = new AtomicInteger();
+        workers = new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                r -> {
+                    Thread t = new Thread(r, "newsletter-worker-" + threadId.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+        rateLimiter = new TokenBucket(ratePerSecond, Math.max(batchSize, 1));
+    }
+
+    /**
+     * Resumes SENDING issues no instance is running, e.g. after a restart or when the instance
+     * sending them died. Runs on every instance; the claim in {@link Run} lets only one win.
+     */
+    @Scheduled(fixedDelayString = "${app.newsletter.resume-ms:60000}")
+    public void resumeInterrupted() {
+        LocalDateTime staleBefore = LocalDateTime.now().minusNanos(leaseMs * 1_000_000);
+        for (Long issueId : issueRepository.findUnowned(staleBefore)) {
+            if (isRunning(issueId)) continue;
+            log.info("Resuming newsletter issue #{}", issueId);
+            launch(issueId);
+        }
+    }
+
+    /** Starts a draft, resumes a paused issue, or retries the failed deliveries of a sent one. */
+    public NewsletterIssue start(Long issueId) {
+        int updated = issueRepository.transition(issueId,
+                EnumSet.of(NewsletterIssueStatus.DRAFT, NewsletterIssueStatus.PAUSED, NewsletterIssueStatus.SENT),
+                NewsletterIssueStatus.SENDING, LocalDateTime.now());
+        NewsletterIssue issue = issueRepository.findById(issueId)
+                .orElseThrow(() -> new RuntimeException("Newsletter issue not found: " + issueId));
+        if (updated == 0 && issue.getStatus() != NewsletterIssueStatus.SENDING) {
+            throw new IllegalStateException("Newsletter issue #" + issueId + " is " + issue.getStatus());
+        }
+        launch(issueId);
+        return issue;
+    }
+
+    public NewsletterIssue pause(Long issueId) {
+        int updated = issueRepository.transition(issueId,
+                EnumSet.of(NewsletterIssueStatus.SENDING), NewsletterIssueStatus.PAUSED, LocalDateTime.now());
+        Run run = runs.get(issueId);
+        if (run != null) run.stopped = true;
+        NewsletterIssue issue = issueRepository.findById(issueId)
+                .orElseThrow(() -> new RuntimeException("Newsletter issue not found: " + issueId));
+        if (updated == 0) {
+            throw new IllegalStateException("Newsletter issue #" + issueId + " is " + issue.getStatus());
+        }
+        return issue;
+    }
+
+    public boolean isRunning(Long issueId) {
+        Run run = runs.get(issueId);
+        return run != null && !run.stopped;
+    }
+
+    /**
+     * Starts a coordinator unless a live one exists. A paused run may still be draining its
+     * in-flight batches; the new run replaces it in {@link #runs} and waits for it to finish,
+     * so a start right after a pause never finds the issue "running" and never double-sends.
+     */
+    private synchronized void launch(Long issueId) {
+        Run existing = runs.get(issueId);
+        if (existing != null && !existing.stopped) return;   // already running on this node
+        Run run = new Run(issueId, existing);
+        runs.put(issueId, run);
+        Thread coordinator = new Thread(run, "newsletter-issue-" + issueId);
+        coordinator.setDaemon(true);
+        coordinator.start();
+    }
+
+    private final class Run implements Runnable {
+
+        private final Long issueId;
+        private final Run previous;
+        private final CountDownLatch finished = new CountDownLatch(1);
+        private volatile boolean stopped;
+        private boolean claimed;
+
+        Run(Long issueId, Run previous) {
+            this.issueId = issueId;
+            this.previous = previous;
+        }
+
+        @Override
+        public void run() {
+            int maxInFlight = workerCount * 2;
+            Semaphore inFlight = new Semaphore(maxInFlight);
+            try {
+                if (previous != null) previous.finished.await();
+                claimed = claim();
+                if (!claimed) {
+                    log.info("Newsletter issue #{} is not claimable here, leaving it to its owner", issueId);
+                    return;
+                }
+                issueRepository.resetFailedCount(issueId);
+                NewsletterIssue issue = issueRepository.findById(issueId).orElseThrow();
+                Template body = Template.compile("newsletter-" + issueId, issue.getBody());
+                String subject = issue.getSubject();
+
+                long afterId = 0;
+                while (!stopped) {
+                    if (!claim()) {
+                        stopped = true;   // paused or taken over; don't send the rest of this run
+                        break;
+                    }
+                    List<Recipient> page = jdbcTemplate.query(PAGE_SQL,
+                            (rs, n) -> new Recipient(rs.getLong(1), rs.getString(2), rs.getString(3)),
+                            afterId, issueId, pageSize);
+                    if (page.isEmpty()) break;
+                    afterId = page.get(page.size() - 1).id();
+
+                    for (int from = 0; from < page.size() && !stopped; from += batchSize) {
+                        List<Recipient> batch = page.subList(from, Math.min(from + batchSize, page.size()));
+                        inFlight.acquire();
+                        workers.execute(() -> {
+                            try {
+                                if (!stopped) sendBatch(subject, body, batch);
+                            } catch (Exception e) {
+                                log.error("Newsletter #{} batch failed: {}", issueId, e.getMessage());
+                            } finally {
+                                inFlight.release();
+                            }
+                        });
+                    }
+                }
+                inFlight.acquire(maxInFlight);   // wait for outstanding batches
+
+                if (!stopped && issueRepository.complete(issueId, nodeId, LocalDateTime.now()) > 0) {
+                    log.info("Newsletter issue #{} sent", issueId);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                // Left in SENDING and still claimed, so it is retried from the delivery table once
+                // the lease expires rather than in a tight loop
+                log.error("Newsletter issue #{} stopped: {}", issueId, e.getMessage(), e);
+                claimed = false;
+            } finally {
+                if (claimed) release();
+                runs.remove(issueId, this);
+                finished.countDown();
+            }
+        }
+
+        /** Takes the issue, or renews the lease this instance already holds. */
+        private boolean claim() {
+            LocalDateTime now = LocalDateTime.now();
+            return issueRepository.claim(issueId, nodeId, now, now.minusNanos(leaseMs * 1_000_000)) > 0;
+        }
+
+        private void release() {
+            try {
+                issueRepository.release(issueId, nodeId);
+            } catch (Exception e) {
+                // The lease simply expires and another instance picks the issue up
+                log.warn("Could not release newsletter issue #{}: {}", issueId, e.getMessage());
+            }
+        }
+
+        private void sendBatch(String subject, Template body, List<Recipient> batch) throws InterruptedException {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            List<Object[]> rows = new ArrayList<>(batch.size());
+            List<Recipient> built = new ArrayList<>(batch.size());
+            List<MimeMessage> messages = new ArrayList<>(batch.size());
+            Map<String, Object> model = new HashMap<>();
+
+            for (Recipient recipient : batch) {
+                model.put("name", recipient.name() != null ? recipient.name() : "there");
+                model.put("email", recipient.email());
+                model.put("unsubscribeUrl", frontendUrl + "/unsubscribe?token="
+                        + newsletterService.unsubscribeToken(recipient.id()));
+                try {
+                    messages.add(emailService.buildMessage(recipient.email(), subject, body.render(model)));
+                    built.add(recipient);
+                } catch (Exception e) {
+                    rows.add(new Object[]{issueId, recipient.id(), "FAILED", e.getMessage(), now});
+                }
+            }
+
+            long sent = 0;
+            if (!messages.isEmpty()) {
+                rateLimiter.acquire(messages.size());
+                List<SmtpTransportPool.SendResult> results = transportPool.send(messages);
+                for (int i = 0; i < built.size(); i++) {
+                    SmtpTransportPool.SendResult result = results.get(i);
+                    if (result.isSent()) sent++;
+                    rows.add(new Object[]{issueId, built.get(i).id(),
+                            result.isSent() ? "SENT" : "FAILED",
+                            result.isSent() ? null : result.error().getMessage(), now});
+                }
+            }
+
+            jdbcTemplate.batchUpdate(RECORD_SQL, rows);
+            issueRepository.addCounts(issueId, sent, rows.size() - sent);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        runs.values().forEach(run -> run.stopped = true);
+        workers.shutdown();
+        try {
+            workers.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
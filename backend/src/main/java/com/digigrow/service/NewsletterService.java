@@ -0,0 +1,229 @@
+package com.digigrow.service;
+
+import com.digigrow.util.AfterCommit;
+import com.digigrow.util.CountingBloomFilter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Newsletter subscribe/unsubscribe, each a single conditional statement. A counting Bloom
+ * filter of active subscriber emails routes likely repeat subscriptions to a read-only
+ * lookup on the unique email index instead of the upsert, which would lock the row. A hit is only a hint: the filter sees only this instance's changes between
+ * nightly rebuilds, so the database always has the final say. It is updated after commit,
+ * only when a statement actually changed a row, so each active email is counted once.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NewsletterService {
+
+    private static final String SUBSCRIBE_SQL = """
+            INSERT INTO newsletter_subscribers (email, name, is_active, subscribed_at)
+            VALUES (?, ?, TRUE, now())
+            ON CONFLICT (email) DO UPDATE
+                SET is_active = TRUE,
+                    name = COALESCE(EXCLUDED.name, newsletter_subscribers.name),
+                    subscribed_at = now(),
+                    unsubscribed_at = NULL
+                WHERE NOT newsletter_subscribers.is_active
+            RETURNING (xmax = 0)
+            """;
+
+    private static final String IS_ACTIVE_SQL = "SELECT is_active FROM newsletter_subscribers WHERE email = ?";
+
+    private static final String UNSUBSCRIBE_SQL =
+            "UPDATE newsletter_subscribers SET is_active = FALSE, unsubscribed_at = now() WHERE email = ? AND is_active";
+
+    private static final String UNSUBSCRIBE_BY_ID_SQL =
+            "UPDATE newsletter_subscribers SET is_active = FALSE, unsubscribed_at = now() WHERE id = ? AND is_active "
+            + "RETURNING email";
+
+    public enum SubscribeResult { SUBSCRIBED, RESUBSCRIBED, ALREADY_SUBSCRIBED }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSource dataSource;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${app.newsletter.bloom.expected:100000}")
+    private long expectedSubscribers;
+
+    @Value("${app.newsletter.bloom.fpp:0.000001}")
+    private double falsePositiveRate;
+
+    @Value("${app.newsletter.unsubscribe-secret:${app.jwt.secret}}")
+    private String unsubscribeSecret;
+
+    // Null until warmed; mutations made while a (re)build is running are journalled and replayed
+    private volatile CountingBloomFilter filter;
+    private List<Change> journal;
+
+    private record Change(String email, boolean add) { }
+
+    public static String normalize(String email) {
+        if (email == null || email.isBlank()) {
+            throw new IllegalArgumentException("Email is required");
+        }
+        // Trimmed only: the unique constraint is case-sensitive and existing rows keep their casing
+        return email.trim();
+    }
+
+    @Transactional
+    public SubscribeResult subscribe(String rawEmail, String name) {
+        String email = normalize(rawEmail);
+        CountingBloomFilter current = filter;
+        if (current != null && current.mightContain(email)
+                && jdbcTemplate.query(IS_ACTIVE_SQL, (rs, n) -> rs.getBoolean(1), email).contains(Boolean.TRUE)) {
+            return SubscribeResult.ALREADY_SUBSCRIBED;
+        }
+
+        // Filter miss, false positive, or unsubscribed on another instance: the upsert decides
+        List<Boolean> inserted = jdbcTemplate.query(SUBSCRIBE_SQL, (rs, n) -> rs.getBoolean(1), email, name);
+        if (inserted.isEmpty()) {
+            // Row exists and is already active
+            return SubscribeResult.ALREADY_SUBSCRIBED;
+        }
+        AfterCommit.run(() -> apply(List.of(email), true));
+        return inserted.get(0) ? SubscribeResult.SUBSCRIBED : SubscribeResult.RESUBSCRIBED;
+    }
+
+    @Transactional
+    public boolean unsubscribe(String rawEmail) {
+        String email = normalize(rawEmail);
+        if (jdbcTemplate.update(UNSUBSCRIBE_SQL, email) == 0) {
+            return false;
+        }
+        AfterCommit.run(() -> apply(List.of(email), false));
+        return true;
+    }
+
+    /**
+     * Token for the unsubscribe link in newsletter emails: the subscriber id and an HMAC of it,
+     * so links can't be forged for other subscribers and carry no email address.
+     */
+    public String unsubscribeToken(long subscriberId) {
+        return subscriberId + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(sign(subscriberId));
+    }
+
+    /** Unsubscribes the subscriber named by an unsubscribe-link token. False when already inactive. */
+    @Transactional
+    public boolean unsubscribeByToken(String token) {
+        long subscriberId = verifyUnsubscribeToken(token);
+        List<String> emails = jdbcTemplate.query(UNSUBSCRIBE_BY_ID_SQL, (rs, n) -> rs.getString(1), subscriberId);
+        if (emails.isEmpty()) {
+            return false;
+        }
+        AfterCommit.run(() -> apply(emails, false));
+        return true;
+    }
+
+    private long verifyUnsubscribeToken(String token) {
+        int dot = token != null ? token.indexOf('.') : -1;
+        if (dot <= 0) {
+            throw new IllegalArgumentException("Invalid unsubscribe link");
+        }
+        try {
+            long subscriberId = Long.parseLong(token.substring(0, dot));
+            byte[] signature = Base64.getUrlDecoder().decode(token.substring(dot + 1));
+            if (MessageDigest.isEqual(signature, sign(subscriberId))) {
+                return subscriberId;
+            }
+        } catch (IllegalArgumentException e) {
+            // Malformed id or signature; reported below
+        }
+        throw new IllegalArgumentException("Invalid unsubscribe link");
+    }
+
+    private byte[] sign(long subscriberId) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(unsubscribeSecret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            return mac.doFinal(("unsubscribe:" + subscriberId).getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** Records emails newly activated outside {@link #subscribe}, e.g. by a bulk import, after commit. */
+    public void activated(List<String> emails) {
+        if (emails.isEmpty()) return;
+        AfterCommit.run(() -> apply(emails, true));
+    }
+
+    private synchronized void apply(List<String> emails, boolean add) {
+        for (String email : emails) {
+            if (journal != null) journal.add(new Change(email, add));
+            if (filter != null) {
+                if (add) filter.add(email); else filter.remove(email);
+            }
+        }
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void warm() {
+        rebuild();
+    }
+
+    /** Rebuilds the filter from the table, resized for the current subscriber count. */
+    @Scheduled(cron = "${app.newsletter.bloom.rebuild-cron:0 40 3 * * *}")
+    public void rebuild() {
+        synchronized (this) {
+            if (journal != null) return;   // already rebuilding
+            journal = new ArrayList<>();
+        }
+        try {
+            Long active = jdbcTemplate.queryForObject(
+                    "SELECT count(*) FROM newsletter_subscribers WHERE is_active", Long.class);
+            CountingBloomFilter next = new CountingBloomFilter(
+                    Math.max(expectedSubscribers, (active != null ? active : 0) * 2), falsePositiveRate);
+
+            // Cursor-based read: Postgres only streams with a fetch size inside a transaction
+            JdbcTemplate streaming = new JdbcTemplate(dataSource);
+            streaming.setFetchSize(5000);
+            TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+            readOnly.setReadOnly(true);
+            readOnly.executeWithoutResult(status -> streaming.query(
+                    "SELECT email FROM newsletter_subscribers WHERE is_active",
+                    rs -> { next.add(rs.getString(1)); }));
+
+            synchronized (this) {
+                // Changes committed around the scan may already be in it. Replay only those it
+                // missed: a stray extra count would leave a false positive behind, whereas a
+                // skipped one merely costs a database round trip.
+                for (Change change : journal) {
+                    boolean present = next.mightContain(change.email());
+                    if (change.add() && !present) next.add(change.email());
+                    else if (!change.add() && present) next.remove(change.email());
+                }
+                filter = next;
+            }
+            log.info("Newsletter Bloom filter built: {} active, {} KB", active, next.sizeInBytes() / 1024);
+        } catch (RuntimeException e) {
+            log.error("Newsletter Bloom filter rebuild failed: {}", e.getMessage());
+        } finally {
+            synchronized (this) {
+                journal = null;
+            }
+        }
+    }
+}
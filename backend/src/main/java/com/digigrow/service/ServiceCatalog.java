@@ -0,0 +1,76 @@
+package com.digigrow.service;
+
+import com.digigrow.dto.ApiResponse;
+import com.digigrow.entity.ServiceEntity;
+import com.digigrow.repository.ServiceRepository;
+import com.digigrow.util.EncodedJson;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable snapshot of the active services, already serialized (and gzipped) to the exact
+ * response bytes with a strong ETag per response. The public endpoints serve from it without touching the
+ * database; it is rebuilt after every admin change, and periodically as a safety net for
+ * changes made on other instances.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ServiceCatalog {
+
+    private final ServiceRepository serviceRepository;
+    private final ObjectMapper objectMapper;
+
+    private record Snapshot(EncodedJson all, Map<String, EncodedJson> bySlug) {
+    }
+
+    private volatile Snapshot snapshot;
+
+    @PostConstruct
+    void init() {
+        rebuild();
+    }
+
+    public EncodedJson all() {
+        return snapshot.all();
+    }
+
+    /** Active services come from the snapshot; inactive ones are still served, from the database. */
+    public Optional<EncodedJson> bySlug(String slug) {
+        EncodedJson cached = snapshot.bySlug().get(slug);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        return serviceRepository.findBySlug(slug).map(service -> serialize(ApiResponse.success(service)));
+    }
+
+    @Scheduled(fixedDelayString = "${app.services.catalog-refresh-ms:300000}",
+               initialDelayString = "${app.services.catalog-refresh-ms:300000}")
+    public synchronized void rebuild() {
+        List<ServiceEntity> active = serviceRepository.findByIsActiveTrueOrderByDisplayOrderAsc();
+        Map<String, EncodedJson> bySlug = new HashMap<>(active.size() * 2);
+        for (ServiceEntity service : active) {
+            bySlug.put(service.getSlug(), serialize(ApiResponse.success(service)));
+        }
+        snapshot = new Snapshot(serialize(ApiResponse.success(active)), Map.copyOf(bySlug));
+        log.debug("Service catalog rebuilt with {} active service(s)", active.size());
+    }
+
+    private EncodedJson serialize(Object body) {
+        try {
+            return EncodedJson.of(objectMapper.writeValueAsBytes(body));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize service catalog", e);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.digigrow.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps a small set of authenticated SMTP connections open so a batch of messages costs one
+ * connect/EHLO/AUTH instead of one per email. A semaphore caps concurrent connections; idle
+ * ones are reused most-recently-used first and closed after {@code app.mail.pool.idle-timeout-ms}.
+ *
+ * <p>Falls back to {@link JavaMailSender#send} per message when the sender is not a
+ * {@link JavaMailSenderImpl} (no access to the session or credentials).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SmtpTransportPool {
+
+    private final JavaMailSender mailSender;
+
+    @Value("${app.mail.pool.size:4}")
+    private int poolSize;
+
+    @Value("${app.mail.pool.borrow-timeout-ms:30000}")
+    private long borrowTimeoutMs;
+
+    @Value("${app.mail.pool.idle-timeout-ms:60000}")
+    private long idleTimeoutMs;
+
+    // Connections idle for less than this are trusted without a NOOP round trip
+    @Value("${app.mail.pool.validate-after-ms:5000}")
+    private long validateAfterMs;
+
+    private final LinkedBlockingDeque<PooledTransport> idle = new LinkedBlockingDeque<>();
+    private Semaphore permits;
+    private volatile boolean closed;
+
+    /** Outcome of one message: {@code error} is null when it was accepted by the server. */
+    public record SendResult(Exception error, long nanos) {
+        public boolean isSent() {
+            return error == null;
+        }
+    }
+
+    /**
+     * Sends the messages in order over a single pooled connection, reconnecting once if the
+     * server drops it mid-batch. Never throws; per-message failures are reported in the result
+     * list, which is parallel to {@code messages}.
+     */
+    public List<SendResult> send(List<MimeMessage> messages) {
+        List<SendResult> results = new ArrayList<>(messages.size());
+        if (!(mailSender instanceof JavaMailSenderImpl sender)) {
+            for (MimeMessage message : messages) {
+                long start = System.nanoTime();
+                try {
+                    mailSender.send(message);
+                    results.add(new SendResult(null, System.nanoTime() - start));
+                } catch (Exception e) {
+                    results.add(new SendResult(e, System.nanoTime() - start));
+                }
+            }
+            return results;
+        }
+
+        try {
+            if (!permits.tryAcquire(borrowTimeoutMs, TimeUnit.MILLISECONDS)) {
+                MessagingException timeout = new MessagingException("Timed out waiting for an SMTP connection");
+                messages.forEach(m -> results.add(new SendResult(timeout, 0)));
+                return results;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            messages.forEach(m -> results.add(new SendResult(e, 0)));
+            return results;
+        }
+
+        PooledTransport pooled = null;
+        try {
+            for (MimeMessage message : messages) {
+                long start = System.nanoTime();
+                try {
+                    if (pooled == null) {
+                        pooled = borrow(sender);
+                    }
+                    send(pooled, message);
+                    results.add(new SendResult(null, System.nanoTime() - start));
+                } catch (MessagingException e) {
+                    // A rejected recipient leaves the connection usable; a dropped one does not
+                    if (pooled != null && !pooled.transport.isConnected()) {
+                        close(pooled);
+                        pooled = null;
+                    }
+                    results.add(new SendResult(e, System.nanoTime() - start));
+                }
+            }
+        } finally {
+            if (pooled != null) {
+                giveBack(pooled);
+            }
+            permits.release();
+        }
+        return results;
+    }
+
+    private void send(PooledTransport pooled, MimeMessage message) throws MessagingException {
+        message.saveChanges();
+        pooled.transport.sendMessage(message, message.getAllRecipients());
+        pooled.lastUsed = System.currentTimeMillis();
+    }
+
+    private PooledTransport borrow(JavaMailSenderImpl sender) throws MessagingException {
+        PooledTransport pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            boolean fresh = System.currentTimeMillis() - pooled.lastUsed < validateAfterMs;
+            if (fresh || pooled.transport.isConnected()) {
+                return pooled;
+            }
+            close(pooled);
+        }
+        return connect(sender);
+    }
+
+    private PooledTransport connect(JavaMailSenderImpl sender) throws MessagingException {
+        Transport transport = sender.getSession().getTransport(sender.getProtocol());
+        transport.connect(sender.getHost(), sender.getPort(), sender.getUsername(), sender.getPassword());
+        log.debug("Opened SMTP connection to {}:{}", sender.getHost(), sender.getPort());
+        return new PooledTransport(transport);
+    }
+
+    private void giveBack(PooledTransport pooled) {
+        if (closed) {
+            close(pooled);
+        } else {
+            idle.offerFirst(pooled);
+        }
+    }
+
+    @PostConstruct
+    void init() {
+        permits = new Semaphore(Math.max(1, poolSize), true);
+    }
+
+    @Scheduled(fixedDelayString = "${app.mail.pool.evict-ms:30000}")
+    public void evictIdle() {
+        long cutoff = System.currentTimeMillis() - idleTimeoutMs;
+        // Oldest connections sit at the tail because returns go to the head
+        PooledTransport pooled;
+        while ((pooled = idle.peekLast()) != null && pooled.lastUsed < cutoff) {
+            if (idle.removeLastOccurrence(pooled)) {
+                close(pooled);
+            }
+        }
+    }
+
+    public int idleCount() {
+        return idle.size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        closed = true;
+        PooledTransport pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            close(pooled);
+        }
+    }
+
+    private void close(PooledTransport pooled) {
+        try {
+            pooled.transport.close();
+        } catch (MessagingException e) {
+            log.debug("Error closing SMTP connection: {}", e.getMessage());
+        }
+    }
+
+    private static final class PooledTransport {
+        final Transport transport;
+        volatile long lastUsed = System.currentTimeMillis();
+
+        PooledTransport(Transport transport) {
+            this.transport = transport;
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package com.digigrow.service;
+
+import com.digigrow.enums.SubscriberImportState;
+import com.digigrow.util.CsvReader;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Bulk newsletter subscriber import. The upload is spooled to a temp file and parsed in the
+ * background one chunk at a time: emails are normalized and deduplicated within the chunk,
+ * then written with a single {@code unnest} insert per chunk. Existing rows are left alone,
+ * so an import never re-subscribes someone who opted out. Callers poll {@link #status(String)};
+ * progress is kept in {@code subscriber_import_jobs} so any instance can answer.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SubscriberImportService {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO newsletter_subscribers (email, name, is_active, subscribed_at)
+            SELECT e, n, TRUE, now() FROM unnest(?::text[], ?::text[]) AS t(e, n)
+            ON CONFLICT (email) DO NOTHING
+            RETURNING email
+            """;
+
+    private static final String UPSERT_STATUS_SQL = """
+            INSERT INTO subscriber_import_jobs (job_id, state, rows_read, imported, skipped, invalid, error, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (job_id) DO UPDATE
+                SET state = EXCLUDED.state, rows_read = EXCLUDED.rows_read, imported = EXCLUDED.imported,
+                    skipped = EXCLUDED.skipped, invalid = EXCLUDED.invalid, error = EXCLUDED.error,
+                    updated_at = EXCLUDED.updated_at
+            """;
+
+    private static final Pattern EMAIL = Pattern.compile("[^@\\s]+@[^@\\s]+\\.[^@\\s]+");
+    private static final int MAX_EMAIL_LENGTH = 255;
+    private static final int MAX_NAME_LENGTH = 255;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final NewsletterService newsletterService;
+
+    @Value("${app.newsletter.import.chunk-size:5000}")
+    private int chunkSize;
+
+    @Value("${app.newsletter.import.max-queued:4}")
+    private int maxQueued;
+
+    @Value("${app.newsletter.import.status-ttl-ms:86400000}")
+    private long statusTtlMs;
+
+    // A queued or running job not updated for this long lost its instance (crash or redeploy)
+    @Value("${app.newsletter.import.stale-ms:1800000}")
+    private long staleMs;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void init() {
+        executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(maxQueued),
+                r -> {
+                    Thread t = new Thread(r, "subscriber-import");
+                    t.setDaemon(true);
+                    return t;
+                });
+    }
+
+    /**
+     * Spools the upload and queues it for import. Returns the initial job status.
+     *
+     * @throws RejectedExecutionException when too many imports are already queued
+     */
+    public ImportStatus submit(MultipartFile file) throws IOException {
+        Path spool = Files.createTempFile("subscriber-import-", ".csv");
+        try {
+            file.transferTo(spool);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(spool);
+            throw e;
+        }
+
+        String jobId = UUID.randomUUID().toString();
+        ImportStatus status = update(jobId, SubscriberImportState.QUEUED, new Progress(), null);
+        try {
+            executor.execute(() -> run(jobId, spool));
+        } catch (RejectedExecutionException e) {
+            jdbcTemplate.update("DELETE FROM subscriber_import_jobs WHERE job_id = ?", jobId);
+            Files.deleteIfExists(spool);
+            throw e;
+        }
+        return status;
+    }
+
+    public Optional<ImportStatus> status(String jobId) {
+        List<ImportStatus> rows = jdbcTemplate.query(
+                "SELECT job_id, state, rows_read, imported, skipped, invalid, error, updated_at "
+                + "FROM subscriber_import_jobs WHERE job_id = ?",
+                (rs, n) -> new ImportStatus(rs.getString(1), SubscriberImportState.valueOf(rs.getString(2)),
+                        rs.getLong(3), rs.getLong(4), rs.getLong(5), rs.getLong(6), rs.getString(7),
+                        rs.getTimestamp(8).getTime()),
+                jobId);
+        return rows.stream().findFirst().map(this::withStaleCheck);
+    }
+
+    // Only RUNNING jobs refresh updated_at as they go; a QUEUED one may wait behind a long import
+    private ImportStatus withStaleCheck(ImportStatus status) {
+        if (status.getState() == SubscriberImportState.RUNNING && status.getUpdatedAt() < System.currentTimeMillis() - staleMs) {
+            status.setState(SubscriberImportState.FAILED);
+            status.setError("Import was interrupted after row " + status.getRowsRead());
+        }
+        return status;
+    }
+
+    private void run(String jobId, Path spool) {
+        Progress progress = new Progress();
+        update(jobId, SubscriberImportState.RUNNING, progress, null);
+        try (Reader reader = Files.newBufferedReader(spool, StandardCharsets.UTF_8);
+             CsvReader csv = new CsvReader(reader)) {
+            importRows(jobId, csv, progress);
+            update(jobId, SubscriberImportState.COMPLETED, progress, null);
+            log.info("Subscriber import {}: {} row(s), {} imported, {} skipped, {} invalid",
+                    jobId, progress.rows, progress.imported, progress.skipped, progress.invalid);
+        } catch (IOException | RuntimeException e) {
+            log.error("Subscriber import {} failed after {} row(s): {}", jobId, progress.rows, e.getMessage());
+            update(jobId, SubscriberImportState.FAILED, progress, e instanceof IllegalArgumentException
+                    ? e.getMessage() : "Import failed after row " + progress.rows);
+        } finally {
+            try {
+                Files.deleteIfExists(spool);
+            } catch (IOException e) {
+                log.warn("Could not delete import spool file {}: {}", spool, e.getMessage());
+            }
+        }
+    }
+
+    private void importRows(String jobId, CsvReader csv, Progress progress) throws IOException {
+        List<String> first = csv.next();
+        if (first == null) {
+            throw new IllegalArgumentException("CSV file is empty");
+        }
+        Map<String, Integer> header = new HashMap<>();
+        for (int i = 0; i < first.size(); i++) {
+            header.put(first.get(i).replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT), i);
+        }
+
+        // Keyed by normalized email: one entry per address within the chunk
+        Map<String, String> chunk = new LinkedHashMap<>(chunkSize * 2);
+        int emailColumn = 0;
+        int nameColumn = -1;
+        if (header.containsKey("email")) {
+            emailColumn = header.get("email");
+            nameColumn = header.getOrDefault("name", -1);
+        } else {
+            // No header: a single column of addresses, so the first row is data
+            first.set(0, first.get(0).replace("\uFEFF", ""));
+            accept(first, emailColumn, nameColumn, chunk, progress);
+        }
+
+        List<String> row;
+        while ((row = csv.next()) != null) {
+            accept(row, emailColumn, nameColumn, chunk, progress);
+            if (chunk.size() == chunkSize) {
+                flush(chunk, progress);
+                update(jobId, SubscriberImportState.RUNNING, progress, null);
+            }
+        }
+        flush(chunk, progress);
+    }
+
+    private static void accept(List<String> row, int emailColumn, int nameColumn,
+                               Map<String, String> chunk, Progress progress) {
+        progress.rows++;
+        String email = cell(row, emailColumn);
+        if (email == null || email.length() > MAX_EMAIL_LENGTH || !EMAIL.matcher(email).matches()) {
+            progress.invalid++;
+        } else if (chunk.putIfAbsent(NewsletterService.normalize(email), truncate(cell(row, nameColumn))) != null) {
+            progress.skipped++;
+        }
+    }
+
+    // An over-long name would fail the insert for the whole chunk, so it is cut to fit the column
+    private static String truncate(String name) {
+        if (name == null || name.length() <= MAX_NAME_LENGTH) return name;
+        int end = Character.isHighSurrogate(name.charAt(MAX_NAME_LENGTH - 1)) ? MAX_NAME_LENGTH - 1 : MAX_NAME_LENGTH;
+        return name.substring(0, end);
+    }
+
+    private void flush(Map<String, String> chunk, Progress progress) {
+        if (chunk.isEmpty()) return;
+        String[] emails = chunk.keySet().toArray(new String[0]);
+        String[] names = chunk.values().toArray(new String[0]);
+
+        List<String> inserted = new TransactionTemplate(transactionManager).execute(tx -> {
+            List<String> rows = jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(INSERT_SQL);
+                ps.setArray(1, con.createArrayOf("text", emails));
+                ps.setArray(2, con.createArrayOf("text", names));
+                return ps;
+            }, (rs, n) -> rs.getString(1));
+            newsletterService.activated(rows);
+            return rows;
+        });
+
+        progress.imported += inserted.size();
+        progress.skipped += emails.length - inserted.size();
+        chunk.clear();
+    }
+
+    private static String cell(List<String> row, int column) {
+        if (column < 0 || column >= row.size()) return null;
+        String value = row.get(column).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private ImportStatus update(String jobId, SubscriberImportState state, Progress progress, String error) {
+        long now = System.currentTimeMillis();
+        jdbcTemplate.update(UPSERT_STATUS_SQL, jobId, state.name(), progress.rows, progress.imported,
+                progress.skipped, progress.invalid, error, new Timestamp(now));
+        return new ImportStatus(jobId, state, progress.rows, progress.imported, progress.skipped,
+                progress.invalid, error, now);
+    }
+
+    @Scheduled(fixedDelayString = "${app.newsletter.import.purge-ms:60000}")
+    public void purgeStatuses() {
+        // Unfinished jobs older than the TTL are stale as well, so everything old can go
+        jdbcTemplate.update("DELETE FROM subscriber_import_jobs WHERE updated_at < ?",
+                new Timestamp(System.currentTimeMillis() - Math.max(statusTtlMs, staleMs)));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static class Progress {
+        long rows;
+        long imported;
+        long skipped;
+        long invalid;
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class ImportStatus {
+        private String jobId;
+        private SubscriberImportState state;
+        private long rowsRead;
+        private long imported;
+        /** Duplicates within the file and addresses already on the list, active or not. */
+        private long skipped;
+        private long invalid;
+        private String error;
+        @JsonIgnore
+        private long updatedAt;
+    }
+}
@@ -0,0 +1,147 @@
+package com.digigrow.service;
+
+import com.digigrow.dto.ApiResponse;
+import com.digigrow.entity.Testimonial;
+import com.digigrow.repository.TestimonialRepository;
+import com.digigrow.util.EncodedJson;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Encoded public testimonial feeds (all active, featured only) served stale-while-revalidate:
+ * a feed older than {@code app.testimonials.fresh-ms} is still returned immediately while a
+ * single background refresh reloads it. Writes call {@link #invalidate()}, which drops both
+ * feeds so the next request loads synchronously and never sees pre-write data.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TestimonialFeedCache {
+
+    private final TestimonialRepository testimonialRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.testimonials.fresh-ms:60000}")
+    private long freshMs;
+
+    @Value("${app.testimonials.max-age-s:60}")
+    private long maxAgeSeconds;
+
+    @Value("${app.testimonials.stale-while-revalidate-s:300}")
+    private long staleWhileRevalidateSeconds;
+
+    /** A cached feed; {@code lastModified} only moves when the content actually changes. */
+    public record Feed(EncodedJson json, long loadedAt, long lastModified) {
+    }
+
+    private final class Slot {
+        final boolean featuredOnly;
+        volatile Feed feed;
+        final AtomicBoolean refreshing = new AtomicBoolean();
+
+        Slot(boolean featuredOnly) {
+            this.featuredOnly = featuredOnly;
+        }
+    }
+
+    private final Slot all = new Slot(false);
+    private final Slot featured = new Slot(true);
+
+    // Bumped on every write so a load that raced with it doesn't cache the old rows
+    private final AtomicLong generation = new AtomicLong();
+
+    private ThreadPoolExecutor refresher;
+    private String cacheControl;
+
+    @PostConstruct
+    void init() {
+        refresher = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(2), r -> {
+            Thread t = new Thread(r, "testimonial-refresh");
+            t.setDaemon(true);
+            return t;
+        });
+        cacheControl = "public, max-age=" + maxAgeSeconds + ", stale-while-revalidate=" + staleWhileRevalidateSeconds;
+    }
+
+    public String getCacheControl() {
+        return cacheControl;
+    }
+
+    public Feed get(boolean featuredOnly) {
+        Slot slot = featuredOnly ? featured : all;
+        Feed feed = slot.feed;
+        if (feed == null) {
+            return load(slot, generation.get());
+        }
+        if (System.currentTimeMillis() - feed.loadedAt() > freshMs && slot.refreshing.compareAndSet(false, true)) {
+            long gen = generation.get();
+            try {
+                refresher.execute(() -> {
+                    try {
+                        load(slot, gen);
+                    } catch (RuntimeException e) {
+                        log.warn("Background testimonial refresh failed: {}", e.getMessage());
+                    } finally {
+                        slot.refreshing.set(false);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                slot.refreshing.set(false);
+            }
+        }
+        return feed;
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+        // Same monitor as load()'s check-then-set, so a load that passed the check lands first
+        // and is cleared here rather than overwriting the invalidation
+        synchronized (all) {
+            all.feed = null;
+        }
+        synchronized (featured) {
+            featured.feed = null;
+        }
+    }
+
+    private Feed load(Slot slot, long gen) {
+        List<Testimonial> list = slot.featuredOnly
+                ? testimonialRepository.findByIsFeaturedTrueAndIsActiveTrueOrderByDisplayOrderAsc()
+                : testimonialRepository.findByIsActiveTrueOrderByDisplayOrderAsc();
+        EncodedJson json;
+        try {
+            json = EncodedJson.of(objectMapper.writeValueAsBytes(ApiResponse.success(list)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize testimonials", e);
+        }
+
+        long now = System.currentTimeMillis();
+        Feed previous = slot.feed;
+        long lastModified = previous != null && previous.json().getEtag().equals(json.getEtag())
+                ? previous.lastModified() : now;
+        Feed feed = new Feed(json, now, lastModified);
+        synchronized (slot) {
+            if (generation.get() == gen) slot.feed = feed;
+        }
+        return feed;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refresher.shutdownNow();
+    }
+}
@@ -0,0 +1,97 @@
+package com.digigrow.service;
+
+import com.digigrow.util.RevokedTokenSet;
+import io.jsonwebtoken.Claims;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Revoked access tokens, keyed by their {@code jti}. The table is the source of truth; the
+ * in-memory {@link RevokedTokenSet} answers the per-request check. It is loaded at startup,
+ * and rows revoked on other instances are picked up every {@code app.auth.revocation-sync-ms}.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TokenRevocationService {
+
+    private static final long SYNC_OVERLAP_MS = 60_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final RevokedTokenSet revoked = new RevokedTokenSet();
+    private volatile Timestamp syncedUpTo;
+
+    @PostConstruct
+    void load() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int loaded = sync("SELECT jti, expires_at, revoked_at FROM revoked_tokens WHERE expires_at > ?", now);
+        log.info("Loaded {} revoked token id(s)", loaded);
+    }
+
+    public boolean isRevoked(Claims claims) {
+        return revoked.contains(claims.getId());
+    }
+
+    /** Revokes the token until its own expiry. Tokens without a jti can't be revoked and are ignored. */
+    public boolean revoke(Claims claims) {
+        if (claims.getId() == null || claims.getExpiration() == null) {
+            return false;
+        }
+        UUID jti;
+        try {
+            jti = UUID.fromString(claims.getId());
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        Timestamp expiresAt = new Timestamp(claims.getExpiration().getTime());
+        jdbcTemplate.update("INSERT INTO revoked_tokens (jti, expires_at, revoked_at) VALUES (?, ?, ?) " +
+                            "ON CONFLICT (jti) DO NOTHING",
+                jti, expiresAt, Timestamp.valueOf(LocalDateTime.now()));
+        revoked.add(jti, expiresAt.getTime());
+        log.info("Revoked token {} of {}", jti, claims.getSubject());
+        return true;
+    }
+
+    @Scheduled(fixedDelayString = "${app.auth.revocation-sync-ms:30000}", initialDelayString = "${app.auth.revocation-sync-ms:30000}")
+    public void syncFromDatabase() {
+        // Overlap the window so rows committed late by another instance aren't skipped
+        Timestamp from = new Timestamp(syncedUpTo.getTime() - SYNC_OVERLAP_MS);
+        sync("SELECT jti, expires_at, revoked_at FROM revoked_tokens WHERE revoked_at >= ?", from);
+    }
+
+    // One table copy per batch, whatever its size
+    private int sync(String sql, Timestamp param) {
+        Map<UUID, Long> batch = new HashMap<>();
+        Timestamp[] latest = {syncedUpTo};
+        jdbcTemplate.query(sql, rs -> {
+            UUID jti = rs.getObject(1, UUID.class);
+            if (!revoked.contains(jti)) batch.put(jti, rs.getTimestamp(2).getTime());
+            Timestamp revokedAt = rs.getTimestamp(3);
+            if (latest[0] == null || revokedAt.after(latest[0])) latest[0] = revokedAt;
+        }, param);
+        if (!batch.isEmpty()) {
+            revoked.addAll(batch);
+        }
+        syncedUpTo = latest[0] != null ? latest[0] : Timestamp.valueOf(LocalDateTime.now());
+        return batch.size();
+    }
+
+    @Scheduled(cron = "${app.auth.revocation-purge-cron:0 15 * * * *}")
+    public void purgeExpired() {
+        int remaining = revoked.prune();
+        int deleted = jdbcTemplate.update("DELETE FROM revoked_tokens WHERE expires_at < ?",
+                Timestamp.valueOf(LocalDateTime.now()));
+        log.debug("Revocation list pruned: {} in memory, {} expired row(s) deleted", remaining, deleted);
+    }
+}
@@ -1,16 +1,21 @@
 package com.digigrow.service.impl;
 
 import com.digigrow.dto.BookingRequestDto;
+import com.digigrow.dto.CursorPage;
+import com.digigrow.dto.KeysetCursor;
 import com.digigrow.entity.BookingConsultation;
 import com.digigrow.enums.BookingStatus;
 import com.digigrow.repository.BookingConsultationRepository;
+import com.digigrow.service.AdminNotificationDigester;
 import com.digigrow.service.BookingService;
+import com.digigrow.service.BookingStatsTracker;
 import com.digigrow.service.EmailService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -24,10 +29,25 @@ public class BookingServiceImpl implements BookingService {
 
     private final BookingConsultationRepository bookingRepository;
     private final EmailService emailService;
+    private final AdminNotificationDigester adminDigester;
+    private final BookingStatsTracker statsTracker;
 
     @Override
     public BookingConsultation createBooking(BookingRequestDto dto) {
-        BookingConsultation booking = BookingConsultation.builder()
+        BookingConsultation saved = bookingRepository.save(toEntity(dto));
+        onCreated(saved);
+        return saved;
+    }
+
+    @Override
+    public List<BookingConsultation> createBookings(List<BookingRequestDto> dtos) {
+        List<BookingConsultation> saved = bookingRepository.saveAll(dtos.stream().map(this::toEntity).toList());
+        saved.forEach(this::onCreated);
+        return saved;
+    }
+
+    private BookingConsultation toEntity(BookingRequestDto dto) {
+        return BookingConsultation.builder()
                 .fullName(dto.getFullName())
                 .email(dto.getEmail())
                 .phone(dto.getPhone())
@@ -38,15 +58,15 @@ public class BookingServiceImpl implements BookingService {
                 .message(dto.getMessage())
                 .status(BookingStatus.PENDING)
                 .build();
+    }
 
-        BookingConsultation saved = bookingRepository.save(booking);
+    private void onCreated(BookingConsultation saved) {
+        statsTracker.recordCreated(saved.getStatus());
         log.info("New booking created: ID={}, Email={}", saved.getId(), saved.getEmail());
 
-        // Send confirmation email asynchronously
+        // Queued in the outbox as part of this transaction; delivered by EmailOutboxDispatcher
         emailService.sendBookingConfirmation(saved);
-        emailService.sendAdminNotification(saved);
-
-        return saved;
+        adminDigester.bookingCreated(saved);
     }
 
     @Override
@@ -61,6 +81,16 @@ public class BookingServiceImpl implements BookingService {
         return bookingRepository.findByStatusOrderByCreatedAtDesc(status, pageable);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<BookingConsultation> getBookingsPage(BookingStatus status, String cursor, int size) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<BookingConsultation> rows = status != null
+                ? bookingRepository.findPageByStatusBefore(status, after.getCreatedAt(), after.getId(), CursorPage.limit(size))
+                : bookingRepository.findPageBefore(after.getCreatedAt(), after.getId(), CursorPage.limit(size));
+        return CursorPage.of(rows, size, BookingConsultation::getCreatedAt, BookingConsultation::getId);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public BookingConsultation getBookingById(Long id) {
@@ -71,21 +101,16 @@ public class BookingServiceImpl implements BookingService {
     @Override
     public BookingConsultation updateBookingStatus(Long id, BookingStatus status, String notes) {
         BookingConsultation booking = getBookingById(id);
+        statsTracker.recordTransition(booking.getStatus(), status);
         booking.setStatus(status);
         if (notes != null) booking.setNotes(notes);
         return bookingRepository.save(booking);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Map<String, Long> getBookingStats() {
-        return Map.of(
-                "total", bookingRepository.count(),
-                "pending", bookingRepository.countByStatus(BookingStatus.PENDING),
-                "confirmed", bookingRepository.countByStatus(BookingStatus.CONFIRMED),
-                "completed", bookingRepository.countByStatus(BookingStatus.COMPLETED),
-                "today", bookingRepository.countTodayBookings()
-        );
+        return statsTracker.snapshot();
     }
 
     @Override
@@ -0,0 +1,89 @@
+package com.digigrow.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counting Bloom filter over strings with 4-bit counters packed sixteen to a long and updated
+ * by CAS, so it supports removal. Counters use wrap-around arithmetic, which makes add and
+ * remove commute: callbacks applied out of order still settle on the right state. A counter
+ * that wraps past 15 reads as zero, which can only produce a false negative, never a false
+ * positive. {@link #mightContain} is lock-free and allocation-free.
+ */
+public final class CountingBloomFilter {
+
+    private final AtomicLongArray words;
+    private final long counters;
+    private final int hashes;
+
+    public CountingBloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.counters = Math.max(64, m);
+        this.hashes = Math.max(1, (int) Math.round((double) counters / n * Math.log(2)));
+        long wordCount = (counters + 15) / 16;
+        if (wordCount > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Bloom filter too large: " + counters + " counters");
+        }
+        this.words = new AtomicLongArray((int) wordCount);
+    }
+
+    public boolean mightContain(String value) {
+        long h = hash(value);
+        int h1 = (int) h;
+        int h2 = (int) (h >>> 32);
+        for (int i = 1; i <= hashes; i++) {
+            long index = Integer.toUnsignedLong(h1 + i * h2) % counters;
+            if (counter(index) == 0) return false;
+        }
+        return true;
+    }
+
+    public void add(String value) {
+        update(value, 1);
+    }
+
+    public void remove(String value) {
+        update(value, -1);
+    }
+
+    /** Approximate memory footprint of the counters. */
+    public long sizeInBytes() {
+        return words.length() * 8L;
+    }
+
+    private void update(String value, int delta) {
+        long h = hash(value);
+        int h1 = (int) h;
+        int h2 = (int) (h >>> 32);
+        for (int i = 1; i <= hashes; i++) {
+            long index = Integer.toUnsignedLong(h1 + i * h2) % counters;
+            int word = (int) (index >>> 4);
+            int shift = (int) (index & 15) << 2;
+            while (true) {
+                long current = words.get(word);
+                long nibble = ((current >>> shift) + delta) & 0xF;
+                long next = (current & ~(0xFL << shift)) | (nibble << shift);
+                if (words.compareAndSet(word, current, next)) break;
+            }
+        }
+    }
+
+    private int counter(long index) {
+        return (int) ((words.get((int) (index >>> 4)) >>> ((index & 15) << 2)) & 0xF);
+    }
+
+    // 64-bit FNV-1a over the chars, finished with a murmur3 mix
+    private static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,46 @@
+package com.digigrow.util;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.regex.Pattern;
+
+public final class Csv {
+
+    private static final Pattern NUMBER = Pattern.compile("[+-]?\\d+(\\.\\d+)?([eE][+-]?\\d+)?");
+
+    private Csv() {
+    }
+
+    /**
+     * Writes one field, quoting it only when it contains a separator, quote or line break.
+     * Text that a spreadsheet would run as a formula (leading {@code = + - @}, tab or CR) is
+     * prefixed with {@code '} and quoted; plain numbers are left alone.
+     */
+    public static void writeField(Writer out, String value) throws IOException {
+        if (value == null || value.isEmpty()) return;
+        boolean formula = isFormula(value);
+        boolean quote = formula;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            out.write(value);
+            return;
+        }
+        out.write('"');
+        if (formula) out.write('\'');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') out.write('"');
+            out.write(c);
+        }
+        out.write('"');
+    }
+
+    private static boolean isFormula(String value) {
+        char first = value.charAt(0);
+        if (first == '=' || first == '@' || first == '\t' || first == '\r') return true;
+        return (first == '+' || first == '-') && !NUMBER.matcher(value).matches();
+    }
+}
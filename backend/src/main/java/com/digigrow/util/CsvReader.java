@@ -0,0 +1,120 @@
+package com.digigrow.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal streaming RFC 4180 reader: quoted fields, doubled quotes and line breaks inside
+ * quotes are supported. A quote only opens a quoted field at the start of a field; elsewhere
+ * it is literal. Only the current record is held in memory, and fields are capped so one
+ * stray quote cannot pull the rest of an upload into a single field.
+ */
+public class CsvReader implements Closeable {
+
+    public static final int DEFAULT_MAX_FIELD_LENGTH = 64 * 1024;
+
+    private final Reader in;
+    private final int maxFieldLength;
+    private final StringBuilder field = new StringBuilder();
+    private long recordNumber;
+    private int pushback = -2;
+
+    public CsvReader(Reader in) {
+        this(in, DEFAULT_MAX_FIELD_LENGTH);
+    }
+
+    public CsvReader(Reader in, int maxFieldLength) {
+        this.in = in;
+        this.maxFieldLength = maxFieldLength;
+    }
+
+    /** 1-based number of the record last returned by {@link #next()}. */
+    public long getRecordNumber() {
+        return recordNumber;
+    }
+
+    /**
+     * Returns the next record, or {@code null} at end of input. Blank lines are skipped.
+     *
+     * @throws IllegalArgumentException naming the record when a field is too long or a quoted
+     *                                  field is still open at end of input
+     */
+    public List<String> next() throws IOException {
+        List<String> record = new ArrayList<>();
+        field.setLength(0);
+        boolean quoted = false;
+        boolean sawAny = false;
+
+        while (true) {
+            int c = read();
+            if (c == -1) {
+                if (!sawAny) return null;
+                if (quoted) {
+                    throw new IllegalArgumentException("CSV record " + (recordNumber + 1)
+                            + ": unterminated quoted field at end of input");
+                }
+                record.add(field.toString());
+                break;
+            }
+            sawAny = true;
+            if (field.length() >= maxFieldLength) {
+                throw new IllegalArgumentException("CSV record " + (recordNumber + 1)
+                        + ": field longer than " + maxFieldLength + " characters");
+            }
+            if (quoted) {
+                if (c == '"') {
+                    int peek = read();
+                    if (peek == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        unread(peek);
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                record.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n') {
+                if (c == '\r') {
+                    int peek = read();
+                    if (peek != '\n') unread(peek);
+                }
+                if (record.isEmpty() && field.length() == 0) {
+                    sawAny = false;
+                    continue;
+                }
+                record.add(field.toString());
+                break;
+            } else {
+                field.append((char) c);
+            }
+        }
+        recordNumber++;
+        return record;
+    }
+
+    private int read() throws IOException {
+        if (pushback != -2) {
+            int c = pushback;
+            pushback = -2;
+            return c;
+        }
+        return in.read();
+    }
+
+    private void unread(int c) {
+        pushback = c;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
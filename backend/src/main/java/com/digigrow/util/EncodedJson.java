@@ -0,0 +1,139 @@
+package com.digigrow.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A JSON response encoded once: the identity bytes, a gzip variant when it pays off, and a
+ * strong ETag per variant. {@link #writeTo} handles conditional requests and content
+ * negotiation and copies the bytes straight to the servlet output stream.
+ */
+public final class EncodedJson {
+
+    private static final int MIN_GZIP_SIZE = 512;
+
+    private final byte[] identity;
+    private final byte[] gzip;
+    private final String etag;
+    private final String gzipEtag;
+
+    private EncodedJson(byte[] identity, byte[] gzip, String tag) {
+        this.identity = identity;
+        this.gzip = gzip;
+        this.etag = "\"" + tag + "\"";
+        this.gzipEtag = "\"" + tag + "-gz\"";
+    }
+
+    public static EncodedJson of(byte[] json) {
+        byte[] gzip = json.length >= MIN_GZIP_SIZE ? gzip(json) : null;
+        if (gzip != null && gzip.length >= json.length) gzip = null;
+        return new EncodedJson(json, gzip, hash(json));
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public byte[] getBody() {
+        return identity;
+    }
+
+    public void writeTo(HttpServletRequest request, HttpServletResponse response, String cacheControl) throws IOException {
+        writeTo(request, response, cacheControl, -1);
+    }
+
+    /** As {@link #writeTo(HttpServletRequest, HttpServletResponse, String)}, also sending Last-Modified when given. */
+    public void writeTo(HttpServletRequest request, HttpServletResponse response, String cacheControl,
+                        long lastModifiedMillis) throws IOException {
+        boolean useGzip = gzip != null && acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        String tag = useGzip ? gzipEtag : etag;
+
+        response.setHeader(HttpHeaders.ETAG, tag);
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (cacheControl != null) response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        if (lastModifiedMillis >= 0) response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModifiedMillis);
+
+        if (notModified(request, lastModifiedMillis)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        byte[] body = useGzip ? gzip : identity;
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        if (useGzip) response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        response.setContentLength(body.length);
+        if (!"HEAD".equals(request.getMethod())) {
+            response.getOutputStream().write(body);
+        }
+    }
+
+    // If-None-Match takes precedence; If-Modified-Since is only consulted without it (RFC 9110)
+    private boolean notModified(HttpServletRequest request, long lastModifiedMillis) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            return matches(ifNoneMatch);
+        }
+        if (lastModifiedMillis < 0) return false;
+        long since;
+        try {
+            since = request.getDateHeader(HttpHeaders.IF_MODIFIED_SINCE);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        // HTTP dates have second precision
+        return since >= 0 && lastModifiedMillis / 1000 <= since / 1000;
+    }
+
+    // Either variant's tag revalidates: the underlying JSON is the same
+    private boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch.trim().equals("*")) return true;
+        for (String candidate : ifNoneMatch.split(",")) {
+            String c = candidate.trim();
+            if (c.startsWith("W/")) c = c.substring(2);
+            if (c.equals(etag) || c.equals(gzipEtag)) return true;
+        }
+        return false;
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) return false;
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.trim().split(";");
+            if (tokens[0].trim().equalsIgnoreCase("gzip")) {
+                return tokens.length < 2 || !tokens[1].replace(" ", "").equals("q=0");
+            }
+        }
+        return false;
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 3 + 64);
+        try (GZIPOutputStream gz = new GZIPOutputStream(out) {{ def.setLevel(Deflater.BEST_COMPRESSION); }}) {
+            gz.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String hash(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest).substring(0, 22);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
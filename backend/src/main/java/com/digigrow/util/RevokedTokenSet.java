@@ -0,0 +1,129 @@
+package com.digigrow.util;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Set of revoked token ids (UUIDs) with per-entry expiry, built for a lookup on every request.
+ * Ids are stored as two longs in open-addressing arrays; {@link #contains(String)} parses the
+ * id text in place and probes without allocating. Writes are rare, so they copy the table,
+ * dropping expired entries on the way, and publish the new one through a volatile field.
+ */
+public final class RevokedTokenSet {
+
+    private static final class Table {
+        final long[] msb;
+        final long[] lsb;
+        final long[] expiresAt;   // 0 marks an empty slot
+        final int mask;
+        int size;
+
+        Table(int capacity) {
+            msb = new long[capacity];
+            lsb = new long[capacity];
+            expiresAt = new long[capacity];
+            mask = capacity - 1;
+        }
+
+        void insert(long hi, long lo, long expiry) {
+            int i = slot(hi, lo) & mask;
+            while (expiresAt[i] != 0) {
+                if (msb[i] == hi && lsb[i] == lo) {
+                    expiresAt[i] = Math.max(expiresAt[i], expiry);
+                    return;
+                }
+                i = (i + 1) & mask;
+            }
+            msb[i] = hi;
+            lsb[i] = lo;
+            expiresAt[i] = expiry;
+            size++;
+        }
+    }
+
+    private volatile Table table = new Table(16);
+
+    public boolean contains(String id) {
+        if (id == null || id.length() != 36
+                || id.charAt(8) != '-' || id.charAt(13) != '-' || id.charAt(18) != '-' || id.charAt(23) != '-') {
+            return false;
+        }
+        long a = hex(id, 0, 8), b = hex(id, 9, 13), c = hex(id, 14, 18), d = hex(id, 19, 23), e = hex(id, 24, 36);
+        if ((a | b | c | d | e) < 0) return false;
+        return contains((a << 32) | (b << 16) | c, (d << 48) | e, System.currentTimeMillis());
+    }
+
+    public boolean contains(UUID id) {
+        return contains(id.getMostSignificantBits(), id.getLeastSignificantBits(), System.currentTimeMillis());
+    }
+
+    private boolean contains(long hi, long lo, long now) {
+        Table t = table;
+        int i = slot(hi, lo) & t.mask;
+        while (t.expiresAt[i] != 0) {
+            if (t.msb[i] == hi && t.lsb[i] == lo) {
+                return t.expiresAt[i] > now;
+            }
+            i = (i + 1) & t.mask;
+        }
+        return false;
+    }
+
+    public void add(UUID id, long expiresAtMillis) {
+        addAll(Map.of(id, expiresAtMillis));
+    }
+
+    /** Adds ids with their expiry times (epoch millis) in one copy of the table. */
+    public synchronized void addAll(Map<UUID, Long> expiries) {
+        rebuild(expiries);
+    }
+
+    /** Drops expired ids; returns how many remain. */
+    public synchronized int prune() {
+        return rebuild(Map.of()).size;
+    }
+
+    public int size() {
+        return table.size;
+    }
+
+    private Table rebuild(Map<UUID, Long> additions) {
+        long now = System.currentTimeMillis();
+        Table old = table;
+
+        int live = additions.size();
+        for (long expiry : old.expiresAt) {
+            if (expiry > now) live++;
+        }
+        int capacity = Math.max(16, Integer.highestOneBit(Math.max(1, live) * 2 - 1) << 1);
+
+        Table next = new Table(capacity);
+        for (int i = 0; i < old.expiresAt.length; i++) {
+            if (old.expiresAt[i] > now) next.insert(old.msb[i], old.lsb[i], old.expiresAt[i]);
+        }
+        additions.forEach((id, expiry) -> {
+            if (expiry > now) next.insert(id.getMostSignificantBits(), id.getLeastSignificantBits(), expiry);
+        });
+        table = next;
+        return next;
+    }
+
+    private static int slot(long hi, long lo) {
+        long h = hi ^ lo;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+
+    /** Parses lowercase or uppercase hex; returns -1 on any other character. */
+    private static long hex(String s, int from, int to) {
+        long value = 0;
+        for (int i = from; i < to; i++) {
+            int digit = Character.digit(s.charAt(i), 16);
+            if (digit < 0) return -1;
+            value = (value << 4) | digit;
+        }
+        return value;
+    }
+}
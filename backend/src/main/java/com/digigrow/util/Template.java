@@ -0,0 +1,99 @@
+package com.digigrow.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Minimal mustache-style template compiled once into alternating literal and placeholder
+ * segments. {@code {{name}}} is HTML-escaped, {@code {{{name}}}} is inserted as-is; missing or
+ * null values render as empty. Rendering reuses a per-thread buffer, so the only allocation per
+ * render is the resulting String.
+ */
+public final class Template {
+
+    private static final int MAX_RETAINED_BUFFER = 64 * 1024;
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(4096));
+
+    private final String name;
+    private final String[] literals;   // literals.length == keys.length + 1
+    private final String[] keys;
+    private final boolean[] raw;
+
+    private Template(String name, String[] literals, String[] keys, boolean[] raw) {
+        this.name = name;
+        this.literals = literals;
+        this.keys = keys;
+        this.raw = raw;
+    }
+
+    public static Template compile(String name, String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> keys = new ArrayList<>();
+        List<Boolean> raw = new ArrayList<>();
+
+        int pos = 0;
+        while (true) {
+            int open = source.indexOf("{{", pos);
+            if (open < 0) break;
+            boolean triple = source.startsWith("{{{", open);
+            String close = triple ? "}}}" : "}}";
+            int keyStart = open + (triple ? 3 : 2);
+            int end = source.indexOf(close, keyStart);
+            if (end < 0) {
+                throw new IllegalArgumentException("Unclosed placeholder in template '" + name + "' at offset " + open);
+            }
+            String key = source.substring(keyStart, end).trim();
+            if (key.isEmpty()) {
+                throw new IllegalArgumentException("Empty placeholder in template '" + name + "' at offset " + open);
+            }
+            literals.add(source.substring(pos, open));
+            keys.add(key);
+            raw.add(triple);
+            pos = end + close.length();
+        }
+        literals.add(source.substring(pos));
+
+        boolean[] rawFlags = new boolean[raw.size()];
+        for (int i = 0; i < rawFlags.length; i++) rawFlags[i] = raw.get(i);
+        return new Template(name, literals.toArray(String[]::new), keys.toArray(String[]::new), rawFlags);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String render(Map<String, ?> model) {
+        StringBuilder out = BUFFER.get();
+        out.setLength(0);
+        try {
+            out.append(literals[0]);
+            for (int i = 0; i < keys.length; i++) {
+                Object value = model.get(keys[i]);
+                if (value != null) {
+                    if (raw[i]) out.append(value);
+                    else escapeHtml(out, value.toString());
+                }
+                out.append(literals[i + 1]);
+            }
+            return out.toString();
+        } finally {
+            // Don't pin one unusually large render's buffer to the thread forever
+            if (out.capacity() > MAX_RETAINED_BUFFER) BUFFER.remove();
+        }
+    }
+
+    static void escapeHtml(StringBuilder out, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '&' -> out.append("&amp;");
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append("&gt;");
+                case '"' -> out.append("&quot;");
+                case '\'' -> out.append("&#39;");
+                default -> out.append(c);
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.digigrow.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket refilled at {@code permitsPerSecond} and holding at most
+ * {@code burst} tokens. Implemented as a single CAS-updated "theoretical arrival time"
+ * (GCRA), which behaves exactly like a token bucket without a separate refill step.
+ */
+public class TokenBucket {
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final AtomicLong tat = new AtomicLong(System.nanoTime());
+
+    public TokenBucket(double permitsPerSecond, int burst) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("Rate and burst must be positive");
+        }
+        this.intervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+        this.burstNanos = intervalNanos * burst;
+    }
+
+    /**
+     * Takes {@code permits} tokens if they are available now. Returns 0 on success, otherwise
+     * the nanoseconds until they would be; nothing is consumed on failure.
+     */
+    public long tryAcquire(int permits) {
+        long cost = intervalNanos * permits;
+        while (true) {
+            long now = System.nanoTime();
+            long current = tat.get();
+            long next = Math.max(current, now) + cost;
+            long wait = next - now - burstNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (tat.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    public boolean tryAcquire() {
+        return tryAcquire(1) == 0;
+    }
+
+    /** Reserves {@code permits} tokens, sleeping until they have been earned. */
+    public void acquire(int permits) throws InterruptedException {
+        long cost = intervalNanos * permits;
+        long wait;
+        while (true) {
+            long now = System.nanoTime();
+            long current = tat.get();
+            long next = Math.max(current, now) + cost;
+            if (tat.compareAndSet(current, next)) {
+                wait = next - now - burstNanos;
+                break;
+            }
+        }
+        if (wait > 0) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+    }
+}
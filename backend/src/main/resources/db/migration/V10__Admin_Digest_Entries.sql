@@ -0,0 +1,6 @@
+-- Bookings waiting for the next admin digest email. Rows are written in the booking's
+-- transaction and deleted in the transaction that puts the digest into email_outbox.
+CREATE TABLE admin_digest_entries (
+    booking_id BIGINT PRIMARY KEY REFERENCES booking_consultations (id) ON DELETE CASCADE,
+    created_at TIMESTAMP NOT NULL DEFAULT now()
+);
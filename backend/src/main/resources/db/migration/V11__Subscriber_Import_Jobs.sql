@@ -0,0 +1,11 @@
+-- Progress of background subscriber CSV imports, readable from any instance.
+CREATE TABLE subscriber_import_jobs (
+    job_id     VARCHAR(36) PRIMARY KEY,
+    state      VARCHAR(20) NOT NULL,
+    rows_read  BIGINT      NOT NULL DEFAULT 0,
+    imported   BIGINT      NOT NULL DEFAULT 0,
+    skipped    BIGINT      NOT NULL DEFAULT 0,
+    invalid    BIGINT      NOT NULL DEFAULT 0,
+    error      TEXT,
+    updated_at TIMESTAMP   NOT NULL
+);
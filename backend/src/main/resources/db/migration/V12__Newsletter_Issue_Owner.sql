@@ -0,0 +1,4 @@
+-- Instance currently sending the issue and its last heartbeat; an owner whose heartbeat is
+-- older than app.newsletter.lease-ms is presumed dead and the issue may be claimed again.
+ALTER TABLE newsletter_issues ADD COLUMN owner VARCHAR(36);
+ALTER TABLE newsletter_issues ADD COLUMN heartbeat_at TIMESTAMP;
@@ -0,0 +1,15 @@
+-- Pre-aggregated campaign metrics. Deltas land in HOUR buckets; the rollup job
+-- folds them into DAY and MONTH buckets so range charts read a few hundred rows.
+CREATE TABLE campaign_metric_buckets (
+    id            BIGSERIAL PRIMARY KEY,
+    campaign_id   BIGINT        NOT NULL REFERENCES ad_campaigns(id) ON DELETE CASCADE,
+    granularity   VARCHAR(10)   NOT NULL,
+    bucket_start  TIMESTAMP     NOT NULL,
+    impressions   BIGINT        NOT NULL DEFAULT 0,
+    clicks        BIGINT        NOT NULL DEFAULT 0,
+    conversions   INTEGER       NOT NULL DEFAULT 0,
+    spend         NUMERIC(14,2) NOT NULL DEFAULT 0,
+    CONSTRAINT uq_campaign_metric_buckets UNIQUE (campaign_id, granularity, bucket_start)
+);
+
+CREATE INDEX idx_campaign_metric_buckets_rollup ON campaign_metric_buckets (granularity, bucket_start);
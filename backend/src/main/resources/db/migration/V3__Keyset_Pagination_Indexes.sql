@@ -0,0 +1,11 @@
+-- Composite indexes backing the (created_at, id) keyset pagination queries.
+-- Btree indexes scan backwards, so they also serve the DESC ordering.
+CREATE INDEX IF NOT EXISTS idx_bookings_created_id ON booking_consultations (created_at, id);
+CREATE INDEX IF NOT EXISTS idx_bookings_status_created_id ON booking_consultations (status, created_at, id);
+
+CREATE INDEX IF NOT EXISTS idx_campaigns_created_id ON ad_campaigns (created_at, id);
+CREATE INDEX IF NOT EXISTS idx_campaigns_status_created_id ON ad_campaigns (status, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_campaigns_platform_created_id ON ad_campaigns (platform, created_at, id);
+
+CREATE INDEX IF NOT EXISTS idx_contact_created_id ON contact_messages (created_at, id);
+CREATE INDEX IF NOT EXISTS idx_contact_unread_created_id ON contact_messages (created_at, id) WHERE is_read = false;
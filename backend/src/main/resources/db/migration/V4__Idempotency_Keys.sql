@@ -0,0 +1,12 @@
+-- Stored responses for requests sent with an Idempotency-Key header.
+-- status_code is NULL while the first request for a key is still running.
+CREATE TABLE idempotency_keys (
+    idempotency_key VARCHAR(320) PRIMARY KEY,
+    status_code     INTEGER,
+    content_type    VARCHAR(100),
+    body            BYTEA,
+    created_at      TIMESTAMP NOT NULL,
+    expires_at      TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_idempotency_keys_expires ON idempotency_keys (expires_at);
@@ -0,0 +1,17 @@
+-- Transactional outbox for outgoing email, drained by EmailOutboxDispatcher.
+CREATE TABLE email_outbox (
+    id              BIGSERIAL PRIMARY KEY,
+    recipient       VARCHAR(255) NOT NULL,
+    subject         VARCHAR(255) NOT NULL,
+    body            TEXT         NOT NULL,
+    status          VARCHAR(20)  NOT NULL DEFAULT 'PENDING',
+    attempts        INTEGER      NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP    NOT NULL,
+    claimed_at      TIMESTAMP,
+    last_error      TEXT,
+    created_at      TIMESTAMP,
+    sent_at         TIMESTAMP
+);
+
+CREATE INDEX idx_email_outbox_due ON email_outbox (next_attempt_at, id) WHERE status = 'PENDING';
+CREATE INDEX idx_email_outbox_sending ON email_outbox (claimed_at) WHERE status = 'SENDING';
@@ -0,0 +1,24 @@
+-- Newsletter issues and per-recipient delivery state, written by NewsletterSendEngine.
+CREATE TABLE newsletter_issues (
+    id           BIGSERIAL PRIMARY KEY,
+    subject      VARCHAR(255) NOT NULL,
+    body         TEXT         NOT NULL,
+    status       VARCHAR(20)  NOT NULL DEFAULT 'DRAFT',
+    sent_count   BIGINT       NOT NULL DEFAULT 0,
+    failed_count BIGINT       NOT NULL DEFAULT 0,
+    created_at   TIMESTAMP,
+    started_at   TIMESTAMP,
+    completed_at TIMESTAMP
+);
+
+CREATE TABLE newsletter_deliveries (
+    issue_id      BIGINT      NOT NULL REFERENCES newsletter_issues (id) ON DELETE CASCADE,
+    subscriber_id BIGINT      NOT NULL,
+    status        VARCHAR(10) NOT NULL,
+    error         TEXT,
+    attempted_at  TIMESTAMP   NOT NULL,
+    PRIMARY KEY (issue_id, subscriber_id)
+);
+
+-- Keyset walk over active subscribers in id order
+CREATE INDEX idx_newsletter_subscribers_active_id ON newsletter_subscribers (id) WHERE is_active;
@@ -0,0 +1,9 @@
+-- Revoked access-token ids (JWT jti); rows are only needed until the token would have expired.
+CREATE TABLE revoked_tokens (
+    jti        UUID      PRIMARY KEY,
+    expires_at TIMESTAMP NOT NULL,
+    revoked_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_revoked_tokens_revoked_at ON revoked_tokens (revoked_at);
+CREATE INDEX idx_revoked_tokens_expires_at ON revoked_tokens (expires_at);
@@ -0,0 +1,2 @@
+-- SHA-256 of the request body that first used the key; a replay with a different body is rejected.
+ALTER TABLE idempotency_keys ADD COLUMN request_hash VARCHAR(64);
@@ -7,6 +7,7 @@ import { Footer } from './components/sections/OtherSections';
 
 // Pages
 import HomePage from './pages/HomePage';
+import UnsubscribePage from './pages/UnsubscribePage';
 import AdminLogin from './pages/admin/AdminLogin';
 import AdminDashboard from './pages/admin/AdminDashboard';
 import AdminBookings from './pages/admin/AdminBookings';
@@ -42,6 +43,10 @@ function AppRoutes() {
         <PublicLayout><HomePage /></PublicLayout>
       } />
 
+      <Route path="/unsubscribe" element={
+        <PublicLayout><UnsubscribePage /></PublicLayout>
+      } />
+
       {/* Admin Auth */}
       <Route path="/admin/login" element={<AdminLogin />} />
 
@@ -23,17 +23,22 @@ export function AuthProvider({ children }) {
       throw new Error(api?.message || 'Login failed');
     }
     const payload = api.data ?? api; // fallback if api already raw
-    const { token, ...userData } = payload;
+    const { token, refreshToken, ...userData } = payload;
     if (!token) throw new Error('No token returned from server');
     // const { token, ...userData } = res.data;
     localStorage.setItem('digigrow_token', token);
+    if (refreshToken) localStorage.setItem('digigrow_refresh_token', refreshToken);
     localStorage.setItem('digigrow_user', JSON.stringify(userData));
     setUser(userData);
     return res;
   };
 
   const logout = () => {
+    const token = localStorage.getItem('digigrow_token');
+    const refreshToken = localStorage.getItem('digigrow_refresh_token');
+    if (refreshToken || token) authApi.logout(refreshToken, token).catch(() => {});
     localStorage.removeItem('digigrow_token');
+    localStorage.removeItem('digigrow_refresh_token');
     localStorage.removeItem('digigrow_user');
     setUser(null);
   };
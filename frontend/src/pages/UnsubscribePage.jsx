@@ -0,0 +1,47 @@
+import { useState } from 'react';
+import { useSearchParams } from 'react-router-dom';
+import { newsletterApi } from '../services/api';
+
+// Linked from newsletter emails. Unsubscribing needs a click so link scanners can't trigger it.
+export default function UnsubscribePage() {
+  const [params] = useSearchParams();
+  const token = params.get('token');
+  const [state, setState] = useState(token ? 'idle' : 'invalid');
+
+  const handleUnsubscribe = async () => {
+    setState('loading');
+    try {
+      await newsletterApi.unsubscribeWithToken(token);
+      setState('done');
+    } catch (err) {
+      setState('invalid');
+    }
+  };
+
+  return (
+    <main className="min-h-screen flex items-center justify-center px-4 pt-24 pb-16">
+      <div className="w-full max-w-md bg-white rounded-2xl p-8 shadow-2xl text-center space-y-5">
+        <h1 className="font-syne text-2xl font-extrabold text-gray-900">Newsletter</h1>
+        {state === 'done' && (
+          <p className="text-gray-600">You have been unsubscribed and won't receive further issues.</p>
+        )}
+        {state === 'invalid' && (
+          <p className="text-gray-600">This unsubscribe link is not valid.</p>
+        )}
+        {(state === 'idle' || state === 'loading') && (
+          <>
+            <p className="text-gray-600">Stop receiving the DigiGrow newsletter?</p>
+            <button
+              onClick={handleUnsubscribe}
+              disabled={state === 'loading'}
+              className="w-full gradient-primary text-white py-4 rounded-xl font-semibold text-base
+                hover:shadow-xl transition-all disabled:opacity-60"
+            >
+              {state === 'loading' ? 'Unsubscribing...' : 'Unsubscribe'}
+            </button>
+          </>
+        )}
+      </div>
+    </main>
+  );
+}
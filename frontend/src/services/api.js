@@ -20,12 +20,46 @@ api.interceptors.request.use(
   (error) => Promise.reject(error)
 );
 
-// Response interceptor - handle auth errors
+// Shared so concurrent 401s trigger a single refresh
+let refreshing = null;
+
+const refreshAccessToken = () => {
+  if (!refreshing) {
+    const refreshToken = localStorage.getItem('digigrow_refresh_token');
+    refreshing = (refreshToken
+      ? axios.post(`${API_BASE_URL}/auth/refresh`, { refreshToken })
+      : Promise.reject(new Error('No refresh token'))
+    )
+      .then((res) => {
+        const { token, refreshToken: next } = res.data.data;
+        localStorage.setItem('digigrow_token', token);
+        localStorage.setItem('digigrow_refresh_token', next);
+        return token;
+      })
+      .finally(() => { refreshing = null; });
+  }
+  return refreshing;
+};
+
+// Response interceptor - refresh expired access tokens, otherwise handle auth errors
 api.interceptors.response.use(
   (response) => response.data,
-  (error) => {
-    if (error.response?.status === 401) {
+  async (error) => {
+    const original = error.config;
+    const isAuthCall = original?.url?.startsWith('/auth/');
+    if (error.response?.status === 401 && original && !original._retried && !isAuthCall) {
+      original._retried = true;
+      try {
+        const token = await refreshAccessToken();
+        original.headers.Authorization = `Bearer ${token}`;
+        return api(original);
+      } catch {
+        // fall through to logout
+      }
+    }
+    if (error.response?.status === 401 && !isAuthCall) {
       localStorage.removeItem('digigrow_token');
+      localStorage.removeItem('digigrow_refresh_token');
       window.location.href = '/admin/login';
     }
     return Promise.reject(error.response?.data || error.message);
@@ -86,12 +120,16 @@ export const testimonialApi = {
 export const newsletterApi = {
   subscribe: (data) => api.post('/newsletter/subscribe', data),
   unsubscribe: (email) => api.post('/newsletter/unsubscribe', { email }),
+  unsubscribeWithToken: (token) => api.post('/newsletter/unsubscribe/confirm', { token }),
   getCount: () => api.get('/newsletter/count'),
 };
 
 // ===================== AUTH API =====================
 export const authApi = {
   login: (email, password) => api.post('/auth/login', { email, password }),
+  // The access token is passed explicitly: callers clear storage before the interceptor runs
+  logout: (refreshToken, token) => api.post('/auth/logout', { refreshToken },
+    token ? { headers: { Authorization: `Bearer ${token}` } } : undefined),
 };
 
 // ===================== DASHBOARD API =====================